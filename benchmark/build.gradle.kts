@@ -0,0 +1,14 @@
+plugins {
+    application
+}
+
+dependencies {
+    implementation(projects.viabackwardsCommon)
+    implementation(libs.viaver)
+    implementation(libs.netty)
+    implementation(libs.guava)
+}
+
+application {
+    mainClass.set("com.viaversion.viabackwards.benchmark.ReplayBenchmark")
+}
@@ -0,0 +1,64 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.benchmark;
+
+import com.viaversion.viaversion.api.platform.ViaInjector;
+import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
+import com.viaversion.viaversion.libs.gson.JsonObject;
+
+/**
+ * Injector of the benchmark, nothing is injected and the server version is the one of the replayed streams.
+ */
+final class BenchmarkInjector implements ViaInjector {
+
+    static final String ENCODER_NAME = "via-encoder";
+    static final String DECODER_NAME = "via-decoder";
+    private final ProtocolVersion serverVersion;
+
+    BenchmarkInjector(final ProtocolVersion serverVersion) {
+        this.serverVersion = serverVersion;
+    }
+
+    @Override
+    public void inject() {
+    }
+
+    @Override
+    public void uninject() {
+    }
+
+    @Override
+    public ProtocolVersion getServerProtocolVersion() {
+        return serverVersion;
+    }
+
+    @Override
+    public String getEncoderName() {
+        return ENCODER_NAME;
+    }
+
+    @Override
+    public String getDecoderName() {
+        return DECODER_NAME;
+    }
+
+    @Override
+    public JsonObject getDump() {
+        return new JsonObject();
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.benchmark;
+
+import com.viaversion.viabackwards.api.ViaBackwardsPlatform;
+import com.viaversion.viaversion.ViaAPIBase;
+import com.viaversion.viaversion.api.ViaAPI;
+import com.viaversion.viaversion.api.command.ViaCommandSender;
+import com.viaversion.viaversion.api.configuration.ViaVersionConfig;
+import com.viaversion.viaversion.api.platform.PlatformTask;
+import com.viaversion.viaversion.api.platform.ViaPlatform;
+import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
+import com.viaversion.viaversion.libs.gson.JsonObject;
+import io.netty.buffer.ByteBuf;
+import java.io.File;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Headless ViaVersion platform without players or a server. Tasks run on a single daemon thread, a tick being 50 ms.
+ */
+final class BenchmarkViaPlatform implements ViaPlatform<Object> {
+
+    private static final long TICK_MILLIS = 50;
+    private final Logger logger = Logger.getLogger("ViaVersion");
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "Via Benchmark Scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ViaAPI<Object> api = new BenchmarkApi();
+    private final File dataFolder;
+    private BenchmarkViaConfig config;
+
+    BenchmarkViaPlatform(final File dataFolder) {
+        this.dataFolder = dataFolder;
+    }
+
+    void loadConfig() {
+        config = new BenchmarkViaConfig(new File(dataFolder, "viaversion.yml"));
+        config.reload();
+    }
+
+    @Override
+    public Logger getLogger() {
+        return logger;
+    }
+
+    @Override
+    public String getPlatformName() {
+        return "ViaBackwards Benchmark";
+    }
+
+    @Override
+    public String getPlatformVersion() {
+        return "headless";
+    }
+
+    @Override
+    public String getPluginVersion() {
+        // The ViaVersion version required by ViaBackwards, which is the one of the version catalog
+        return ViaBackwardsPlatform.MINIMUM_VV_VERSION;
+    }
+
+    @Override
+    public PlatformTask<Future<?>> runAsync(final Runnable runnable) {
+        return new BenchmarkTask(scheduler.submit(runnable));
+    }
+
+    @Override
+    public PlatformTask<Future<?>> runRepeatingAsync(final Runnable runnable, final long ticks) {
+        return new BenchmarkTask(scheduler.scheduleAtFixedRate(runnable, 0, ticks * TICK_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public PlatformTask<Future<?>> runSync(final Runnable runnable) {
+        return runAsync(runnable);
+    }
+
+    @Override
+    public PlatformTask<Future<?>> runSync(final Runnable runnable, final long delay) {
+        return new BenchmarkTask(scheduler.schedule(runnable, delay * TICK_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public PlatformTask<Future<?>> runRepeatingSync(final Runnable runnable, final long period) {
+        return runRepeatingAsync(runnable, period);
+    }
+
+    @Override
+    public ViaCommandSender[] getOnlinePlayers() {
+        return new ViaCommandSender[0];
+    }
+
+    @Override
+    public void sendMessage(final UUID uuid, final String message) {
+    }
+
+    @Override
+    public boolean kickPlayer(final UUID uuid, final String message) {
+        return false;
+    }
+
+    @Override
+    public boolean isPluginEnabled() {
+        return true;
+    }
+
+    @Override
+    public ViaAPI<Object> getApi() {
+        return api;
+    }
+
+    @Override
+    public ViaVersionConfig getConf() {
+        return config;
+    }
+
+    @Override
+    public File getDataFolder() {
+        return dataFolder;
+    }
+
+    @Override
+    public void onReload() {
+    }
+
+    @Override
+    public JsonObject getDump() {
+        return new JsonObject();
+    }
+
+    @Override
+    public boolean isOldClientsAllowed() {
+        return true;
+    }
+
+    @Override
+    public boolean hasPlugin(final String name) {
+        return false;
+    }
+
+    private static final class BenchmarkApi extends ViaAPIBase<Object> {
+
+        @Override
+        public ProtocolVersion getPlayerProtocolVersion(final Object player) {
+            return ProtocolVersion.unknown;
+        }
+
+        @Override
+        public void sendRawPacket(final Object player, final ByteBuf packet) {
+            packet.release();
+            throw new UnsupportedOperationException("There are no players in the benchmark");
+        }
+    }
+
+    private static final class BenchmarkTask implements PlatformTask<Future<?>> {
+        private final Future<?> future;
+
+        private BenchmarkTask(final Future<?> future) {
+            this.future = future;
+        }
+
+        @Override
+        public Future<?> getObject() {
+            return future;
+        }
+
+        @Override
+        public void cancel() {
+            future.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.benchmark;
+
+import com.viaversion.viaversion.ViaManagerImpl;
+import com.viaversion.viaversion.api.Via;
+import com.viaversion.viaversion.api.platform.ViaPlatformLoader;
+import com.viaversion.viaversion.api.protocol.Protocol;
+import com.viaversion.viaversion.api.protocol.ProtocolManager;
+import com.viaversion.viaversion.api.protocol.ProtocolPathEntry;
+import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
+import com.viaversion.viaversion.commands.ViaCommandHandler;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Starts ViaVersion and ViaBackwards without a server, network or players.
+ */
+final class HeadlessVia {
+
+    private HeadlessVia() {
+    }
+
+    /**
+     * Initializes ViaVersion and ViaBackwards for the given server version. Can only be called once per JVM.
+     *
+     * @param serverVersion version of the replayed server
+     * @param dataFolder    folder for the config files
+     */
+    static void start(final ProtocolVersion serverVersion, final File dataFolder) {
+        final BenchmarkViaPlatform platform = new BenchmarkViaPlatform(dataFolder);
+        final ViaManagerImpl manager = ViaManagerImpl.builder()
+            .platform(platform)
+            .injector(new BenchmarkInjector(serverVersion))
+            .loader(new NoopLoader())
+            .commandHandler(new ViaCommandHandler())
+            .build();
+        Via.init(manager);
+        platform.loadConfig();
+
+        final BenchmarkBackwardsPlatform backwardsPlatform = new BenchmarkBackwardsPlatform(dataFolder);
+        manager.addEnableListener(() -> backwardsPlatform.init(new File(dataFolder, "viabackwards.yml")));
+        manager.init();
+        manager.onServerLoaded();
+    }
+
+    /**
+     * Returns the protocols between the given versions, ordered from the client to the server like a connection's pipeline,
+     * once their mappings have been loaded.
+     *
+     * @param clientVersion client version
+     * @param serverVersion server version
+     * @return protocols between the versions
+     * @throws IllegalArgumentException if there is no protocol path between the versions
+     */
+    static List<Protocol> protocolPath(final ProtocolVersion clientVersion, final ProtocolVersion serverVersion) {
+        final ProtocolManager protocolManager = Via.getManager().getProtocolManager();
+        final List<ProtocolPathEntry> path = protocolManager.getProtocolPath(clientVersion, serverVersion);
+        if (path == null) {
+            throw new IllegalArgumentException("No protocol path from " + serverVersion + " to " + clientVersion);
+        }
+
+        final List<Protocol> protocols = new ArrayList<>(path.size());
+        for (final ProtocolPathEntry entry : path) {
+            final Protocol protocol = entry.protocol();
+            final CompletableFuture<Void> mappingFuture = protocolManager.getMappingLoaderFuture(protocol.getClass());
+            if (mappingFuture != null) {
+                mappingFuture.join();
+            }
+            protocols.add(protocol);
+        }
+        return protocols;
+    }
+
+    private static final class NoopLoader implements ViaPlatformLoader {
+
+        @Override
+        public void load() {
+        }
+
+        @Override
+        public void unload() {
+        }
+    }
+}
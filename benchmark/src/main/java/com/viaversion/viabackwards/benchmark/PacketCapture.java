@@ -0,0 +1,201 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.benchmark;
+
+import com.viaversion.viabackwards.api.BackwardsProtocol;
+import com.viaversion.viaversion.api.protocol.Protocol;
+import com.viaversion.viaversion.api.protocol.packet.Direction;
+import com.viaversion.viaversion.api.protocol.packet.State;
+import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
+import com.viaversion.viaversion.api.type.Type;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Packet stream as sent by a server and its client, before any translation.
+ * <p>
+ * Captures are stored as a magic number, a format version and the server's protocol version, followed by the packets.
+ * Every packet consists of its direction and state ordinals as single bytes, the length as an int and the packet itself,
+ * starting with its var int id.
+ */
+final class PacketCapture {
+
+    private static final int MAGIC = 0x56424350; // VBCP
+    private static final int FORMAT_VERSION = 1;
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final State[] STATES = State.values();
+    private final ProtocolVersion serverVersion;
+    private final List<Packet> packets;
+
+    PacketCapture(final ProtocolVersion serverVersion, final List<Packet> packets) {
+        this.serverVersion = serverVersion;
+        this.packets = Collections.unmodifiableList(packets);
+    }
+
+    static PacketCapture read(final Path path) throws IOException {
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(path + " is not a packet capture");
+            }
+            final int formatVersion = in.readInt();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IOException("Unsupported capture format version " + formatVersion);
+            }
+
+            final ProtocolVersion serverVersion = ProtocolVersion.getProtocol(in.readInt());
+            final List<Packet> packets = new ArrayList<>();
+            while (true) {
+                final int direction;
+                try {
+                    direction = in.readUnsignedByte();
+                } catch (final EOFException e) {
+                    break;
+                }
+
+                final State state = STATES[in.readUnsignedByte()];
+                final byte[] data = new byte[in.readInt()];
+                in.readFully(data);
+                packets.add(new Packet(DIRECTIONS[direction], state, data));
+            }
+            return new PacketCapture(serverVersion, packets);
+        }
+    }
+
+    void write(final Path path) throws IOException {
+        try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(serverVersion.getVersion());
+            for (final Packet packet : packets) {
+                out.writeByte(packet.direction().ordinal());
+                out.writeByte(packet.state().ordinal());
+                out.writeInt(packet.data().length);
+                out.write(packet.data());
+            }
+        }
+    }
+
+    /**
+     * Generates a stream of play keep alive and time update packets. They only exercise the packet id remapping
+     * and the pipeline itself, real captures should be used to measure specific packet types. Every hundredth packet
+     * is a minimal command tree, alternating with an empty tags packet on 1.17+ servers, so replays also cover packets
+     * shared between connections.
+     *
+     * @param serverVersion  server version
+     * @param serverProtocol protocol closest to the server
+     * @param count          number of packets
+     * @param seed           random seed
+     * @return synthetic capture
+     */
+    static PacketCapture synthetic(final ProtocolVersion serverVersion, final Protocol serverProtocol, final int count, final long seed) {
+        if (!(serverProtocol instanceof BackwardsProtocol)) {
+            throw new IllegalArgumentException("Synthetic streams need a ViaBackwards protocol closest to the server");
+        }
+
+        final BackwardsProtocol<?, ?, ?, ?> protocol = (BackwardsProtocol<?, ?, ?, ?>) serverProtocol;
+        final int keepAliveId = protocol.packetTypeId(Direction.CLIENTBOUND, State.PLAY, "KEEP_ALIVE");
+        final int timeUpdateId = protocol.packetTypeId(Direction.CLIENTBOUND, State.PLAY, "TIME_UPDATE");
+        if (keepAliveId == -1 || timeUpdateId == -1) {
+            throw new IllegalArgumentException("Unknown keep alive or time update packet in " + protocol.getClass().getSimpleName());
+        }
+        final int declareCommandsId = protocol.packetTypeId(Direction.CLIENTBOUND, State.PLAY, "DECLARE_COMMANDS");
+        final int tagsId = serverVersion.newerThanOrEqualTo(ProtocolVersion.v1_17)
+            ? protocol.packetTypeId(Direction.CLIENTBOUND, State.PLAY, "TAGS") : -1;
+
+        final Random random = new Random(seed);
+        final List<Packet> packets = new ArrayList<>(count);
+        final ByteBuf buffer = Unpooled.buffer();
+        try {
+            for (int i = 0; i < count; i++) {
+                buffer.clear();
+                if (tagsId != -1 && i % 200 == 150) {
+                    Type.VAR_INT.writePrimitive(buffer, tagsId);
+                    Type.VAR_INT.writePrimitive(buffer, 0); // Registries
+                } else if (declareCommandsId != -1 && i % 100 == 50) {
+                    Type.VAR_INT.writePrimitive(buffer, declareCommandsId);
+                    Type.VAR_INT.writePrimitive(buffer, 1); // Nodes
+                    buffer.writeByte(0); // Root node flags
+                    Type.VAR_INT.writePrimitive(buffer, 0); // Children
+                    Type.VAR_INT.writePrimitive(buffer, 0); // Root node index
+                } else if (random.nextInt(10) == 0) {
+                    Type.VAR_INT.writePrimitive(buffer, keepAliveId);
+                    if (serverVersion.olderThan(ProtocolVersion.v1_12_2)) {
+                        Type.VAR_INT.writePrimitive(buffer, random.nextInt(Integer.MAX_VALUE));
+                    } else {
+                        buffer.writeLong(random.nextLong());
+                    }
+                } else {
+                    Type.VAR_INT.writePrimitive(buffer, timeUpdateId);
+                    buffer.writeLong(i * 20L); // World age
+                    buffer.writeLong(i * 20L % 24000); // Time of day
+                }
+
+                final byte[] data = new byte[buffer.readableBytes()];
+                buffer.readBytes(data);
+                packets.add(new Packet(Direction.CLIENTBOUND, State.PLAY, data));
+            }
+        } finally {
+            buffer.release();
+        }
+        return new PacketCapture(serverVersion, packets);
+    }
+
+    ProtocolVersion serverVersion() {
+        return serverVersion;
+    }
+
+    List<Packet> packets() {
+        return packets;
+    }
+
+    static final class Packet {
+        private final Direction direction;
+        private final State state;
+        private final byte[] data;
+
+        Packet(final Direction direction, final State state, final byte[] data) {
+            this.direction = direction;
+            this.state = state;
+            this.data = data;
+        }
+
+        Direction direction() {
+            return direction;
+        }
+
+        State state() {
+            return state;
+        }
+
+        byte[] data() {
+            return data;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.benchmark;
+
+import com.viaversion.viaversion.api.protocol.Protocol;
+import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replays a packet capture, or a synthetic packet stream, through the protocols between a server and client version
+ * without network or server, then reports throughput, latency percentiles and allocation per packet.
+ * <p>
+ * Arguments:
+ * <ul>
+ *     <li>{@code --client <version>}: client version, required</li>
+ *     <li>{@code --capture <file>}: capture to replay, which also determines the server version</li>
+ *     <li>{@code --server <version>} and {@code --synthetic <packets>}: generate a stream instead of replaying a capture</li>
+ *     <li>{@code --save <file>}: save the generated stream as a capture</li>
+ *     <li>{@code --iterations <n>}: measured replays of the whole stream, defaults to 10</li>
+ *     <li>{@code --warmup <n>}: unmeasured replays before, defaults to 3</li>
+ *     <li>{@code --data-folder <folder>}: folder for the config files, defaults to {@code benchmark-data}</li>
+ * </ul>
+ * Every replay uses a new connection, so stateful protocols see the stream from its start. The exit code is 1 if any
+ * packet failed to translate, so replays can also be used to check a version path.
+ */
+public final class ReplayBenchmark {
+
+    private ReplayBenchmark() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Map<String, String> options = parseOptions(args);
+        final ProtocolVersion clientVersion = version(required(options, "--client"));
+        final int iterations = Integer.parseInt(options.getOrDefault("--iterations", "10"));
+        final int warmup = Integer.parseInt(options.getOrDefault("--warmup", "3"));
+
+        final String capturePath = options.get("--capture");
+        final PacketCapture storedCapture = capturePath != null ? PacketCapture.read(Paths.get(capturePath)) : null;
+        final ProtocolVersion serverVersion = storedCapture != null ? storedCapture.serverVersion() : version(required(options, "--server"));
+
+        HeadlessVia.start(serverVersion, new File(options.getOrDefault("--data-folder", "benchmark-data")));
+        final List<Protocol> protocols = HeadlessVia.protocolPath(clientVersion, serverVersion);
+
+        final PacketCapture capture;
+        if (storedCapture != null) {
+            capture = storedCapture;
+        } else {
+            final int count = Integer.parseInt(required(options, "--synthetic"));
+            capture = PacketCapture.synthetic(serverVersion, protocols.get(protocols.size() - 1), count, 0);
+            final String savePath = options.get("--save");
+            if (savePath != null) {
+                capture.write(Paths.get(savePath));
+            }
+        }
+        if (capture.packets().isEmpty()) {
+            throw new IllegalArgumentException("The capture doesn't contain any packets");
+        }
+
+        System.out.printf("Replaying %d packets from %s to %s through %d protocols, %d warmup and %d measured iterations%n",
+            capture.packets().size(), serverVersion.getName(), clientVersion.getName(), protocols.size(), warmup, iterations);
+
+        for (int i = 0; i < warmup; i++) {
+            replay(capture, clientVersion, protocols, null);
+        }
+
+        final ReplayResult result = new ReplayResult();
+        for (int i = 0; i < iterations; i++) {
+            replay(capture, clientVersion, protocols, result);
+        }
+        System.out.print(result.report());
+        System.exit(result.failedPackets() == 0 ? 0 : 1); // Stop Via's scheduler and mapping loader threads
+    }
+
+    private static void replay(final PacketCapture capture, final ProtocolVersion clientVersion, final List<Protocol> protocols,
+                               final ReplayResult result) {
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        final com.sun.management.ThreadMXBean allocations = threads instanceof com.sun.management.ThreadMXBean
+            && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemoryEnabled() ? (com.sun.management.ThreadMXBean) threads : null;
+        final long threadId = Thread.currentThread().getId();
+
+        final List<PacketCapture.Packet> packets = capture.packets();
+        try (final ReplayConnection connection = new ReplayConnection(clientVersion, capture.serverVersion(), protocols, packets.get(0).state())) {
+            final long allocatedBefore = allocations != null ? allocations.getThreadAllocatedBytes(threadId) : 0;
+            final long start = System.nanoTime();
+            for (final PacketCapture.Packet packet : packets) {
+                final long packetStart = System.nanoTime();
+                final int outputSize;
+                try {
+                    outputSize = connection.transform(packet);
+                } catch (final Exception e) {
+                    if (result != null) {
+                        if (result.failedPackets() == 0) {
+                            System.err.println("First failed packet, following failures are only counted:");
+                            e.printStackTrace();
+                        }
+                        result.recordFailure();
+                    }
+                    continue;
+                }
+                if (result != null) {
+                    result.record(System.nanoTime() - packetStart, packet.data().length, outputSize);
+                }
+            }
+
+            if (result != null) {
+                result.addElapsed(System.nanoTime() - start);
+                if (allocations != null) {
+                    result.addAllocated(allocations.getThreadAllocatedBytes(threadId) - allocatedBefore);
+                }
+                result.recordSent(connection.sentPackets(), connection.sentBytes());
+            }
+        }
+    }
+
+    private static Map<String, String> parseOptions(final String[] args) {
+        if (args.length % 2 != 0) {
+            throw new IllegalArgumentException("Expected pairs of options and values");
+        }
+
+        final Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            options.put(args[i], args[i + 1]);
+        }
+        return options;
+    }
+
+    private static String required(final Map<String, String> options, final String option) {
+        final String value = options.get(option);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing option " + option);
+        }
+        return value;
+    }
+
+    private static ProtocolVersion version(final String name) {
+        final ProtocolVersion version = ProtocolVersion.getClosest(name);
+        if (version == null) {
+            throw new IllegalArgumentException("Unknown version " + name);
+        }
+        return version;
+    }
+}
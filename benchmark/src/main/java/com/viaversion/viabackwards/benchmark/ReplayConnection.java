@@ -0,0 +1,134 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.benchmark;
+
+import com.viaversion.viaversion.api.connection.ProtocolInfo;
+import com.viaversion.viaversion.api.connection.UserConnection;
+import com.viaversion.viaversion.api.protocol.Protocol;
+import com.viaversion.viaversion.api.protocol.packet.Direction;
+import com.viaversion.viaversion.api.protocol.packet.State;
+import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
+import com.viaversion.viaversion.connection.UserConnectionImpl;
+import com.viaversion.viaversion.exception.CancelCodecException;
+import com.viaversion.viaversion.exception.CancelDecoderException;
+import com.viaversion.viaversion.exception.CancelEncoderException;
+import com.viaversion.viaversion.protocol.ProtocolPipelineImpl;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Server side connection on an embedded channel. Packets sent by the protocols in addition to the translated one
+ * reach a sink counting and releasing them in place of the encoder.
+ */
+final class ReplayConnection implements AutoCloseable {
+
+    private final PacketSink sink = new PacketSink();
+    private final EmbeddedChannel channel;
+    private final UserConnection user;
+
+    ReplayConnection(final ProtocolVersion clientVersion, final ProtocolVersion serverVersion, final List<Protocol> protocols, final State state) {
+        channel = new EmbeddedChannel(sink);
+        // Protocols write additional packets in front of the encoder
+        channel.pipeline().addLast(BenchmarkInjector.ENCODER_NAME, new ChannelOutboundHandlerAdapter());
+
+        user = new UserConnectionImpl(channel);
+        new ProtocolPipelineImpl(user);
+
+        final ProtocolInfo info = user.getProtocolInfo();
+        info.setProtocolVersion(clientVersion);
+        info.setServerProtocolVersion(serverVersion);
+        info.setUsername("Benchmark");
+        info.setUuid(UUID.randomUUID());
+        info.setClientState(state);
+        info.setServerState(state);
+        info.getPipeline().add(protocols);
+    }
+
+    /**
+     * Translates the packet, including any tasks scheduled by the protocols.
+     *
+     * @param packet packet to translate
+     * @return size of the translated packet in bytes, or -1 if it has been cancelled
+     * @throws Exception if translating fails
+     */
+    int transform(final PacketCapture.Packet packet) throws Exception {
+        final ByteBuf buffer = channel.alloc().buffer(packet.data().length);
+        try {
+            buffer.writeBytes(packet.data());
+            if (packet.direction() == Direction.CLIENTBOUND) {
+                user.transformClientbound(buffer, CancelEncoderException::generate);
+            } else {
+                user.transformServerbound(buffer, CancelDecoderException::generate);
+            }
+            return buffer.readableBytes();
+        } catch (final Exception e) {
+            if (e instanceof CancelCodecException) {
+                return -1;
+            }
+            throw e;
+        } finally {
+            buffer.release();
+            channel.runPendingTasks();
+        }
+    }
+
+    /**
+     * Returns the number of bytes of additional packets sent by the protocols.
+     *
+     * @return bytes of additional packets
+     */
+    long sentBytes() {
+        return sink.bytes;
+    }
+
+    /**
+     * Returns the number of additional packets sent by the protocols.
+     *
+     * @return number of additional packets
+     */
+    long sentPackets() {
+        return sink.packets;
+    }
+
+    @Override
+    public void close() {
+        user.clearStoredObjects();
+        channel.finish();
+    }
+
+    private static final class PacketSink extends ChannelOutboundHandlerAdapter {
+        private long packets;
+        private long bytes;
+
+        @Override
+        public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+            if (msg instanceof ByteBuf) {
+                packets++;
+                bytes += ((ByteBuf) msg).readableBytes();
+            }
+            ReferenceCountUtil.release(msg);
+            promise.setSuccess();
+        }
+    }
+}
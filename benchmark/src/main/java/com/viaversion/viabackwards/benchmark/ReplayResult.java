@@ -0,0 +1,98 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.benchmark;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Measurements of the replayed packets of all measured iterations.
+ */
+final class ReplayResult {
+
+    private long[] latencies = new long[1024];
+    private int packets;
+    private long inputBytes;
+    private long outputBytes;
+    private long cancelled;
+    private long failed;
+    private long sentPackets;
+    private long elapsedNanos;
+    private long allocatedBytes = -1;
+
+    void record(final long nanos, final int inputSize, final int outputSize) {
+        if (packets == latencies.length) {
+            latencies = Arrays.copyOf(latencies, packets * 2);
+        }
+        latencies[packets++] = nanos;
+        inputBytes += inputSize;
+        if (outputSize == -1) {
+            cancelled++;
+        } else {
+            outputBytes += outputSize;
+        }
+    }
+
+    void recordFailure() {
+        failed++;
+    }
+
+    long failedPackets() {
+        return failed;
+    }
+
+    void recordSent(final long packets, final long bytes) {
+        sentPackets += packets;
+        outputBytes += bytes;
+    }
+
+    void addElapsed(final long nanos) {
+        elapsedNanos += nanos;
+    }
+
+    void addAllocated(final long bytes) {
+        allocatedBytes = allocatedBytes == -1 ? bytes : allocatedBytes + bytes;
+    }
+
+    String report() {
+        final long[] sorted = Arrays.copyOf(latencies, packets);
+        Arrays.sort(sorted);
+
+        final double seconds = elapsedNanos / 1_000_000_000D;
+        final StringBuilder builder = new StringBuilder();
+        builder.append(String.format(Locale.ROOT, "Packets:     %d (%d cancelled, %d failed, %d additional packets sent)%n", packets, cancelled, failed, sentPackets));
+        builder.append(String.format(Locale.ROOT, "Throughput:  %.0f packets/s, %.2f MiB/s in, %.2f MiB/s out%n",
+            packets / seconds, inputBytes / seconds / (1024 * 1024), outputBytes / seconds / (1024 * 1024)));
+        builder.append(String.format(Locale.ROOT, "Latency:     p50 %.2f µs, p90 %.2f µs, p99 %.2f µs, p99.9 %.2f µs, max %.2f µs%n",
+            micros(sorted, 0.5), micros(sorted, 0.9), micros(sorted, 0.99), micros(sorted, 0.999), micros(sorted, 1)));
+        if (allocatedBytes != -1) {
+            builder.append(String.format(Locale.ROOT, "Allocation:  %.0f bytes/packet%n", packets != 0 ? (double) allocatedBytes / packets : 0));
+        } else {
+            builder.append("Allocation:  not supported by this JVM").append(System.lineSeparator());
+        }
+        return builder.toString();
+    }
+
+    private static double micros(final long[] sorted, final double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        final int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1000D;
+    }
+}
@@ -22,6 +22,7 @@ import com.viaversion.viabackwards.api.ViaBackwardsPlatform;
 import com.viaversion.viabackwards.listener.FireDamageListener;
 import com.viaversion.viabackwards.listener.FireExtinguishListener;
 import com.viaversion.viabackwards.listener.LecternInteractListener;
+import com.viaversion.viabackwards.listener.PipelineMembership;
 import com.viaversion.viabackwards.listener.PlayerItemDropListener;
 import com.viaversion.viaversion.api.Via;
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
@@ -30,6 +31,8 @@ import org.bukkit.plugin.java.JavaPlugin;
 
 public class BukkitPlugin extends JavaPlugin implements ViaBackwardsPlatform {
 
+    private final PipelineMembership pipelineMembership = new PipelineMembership();
+
     public BukkitPlugin() {
         Via.getManager().addEnableListener(() -> init(new File(getDataFolder(), "config.yml")));
     }
@@ -46,6 +49,8 @@ public class BukkitPlugin extends JavaPlugin implements ViaBackwardsPlatform {
 
     private void enable() {
         ProtocolVersion protocolVersion = Via.getAPI().getServerVersion().highestSupportedProtocolVersion();
+        getServer().getPluginManager().registerEvents(pipelineMembership, this);
+
         if (protocolVersion.newerThanOrEqualTo(ProtocolVersion.v1_17)) {
             new PlayerItemDropListener(this).register();
         }
@@ -60,6 +65,10 @@ public class BukkitPlugin extends JavaPlugin implements ViaBackwardsPlatform {
         }
     }
 
+    public PipelineMembership getPipelineMembership() {
+        return pipelineMembership;
+    }
+
     @Override
     public void disable() {
         getPluginLoader().disablePlugin(this);
@@ -0,0 +1,43 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.listener;
+
+import com.viaversion.viabackwards.BukkitPlugin;
+import com.viaversion.viaversion.api.protocol.Protocol;
+import com.viaversion.viaversion.bukkit.listeners.ViaBukkitListener;
+import org.bukkit.entity.Player;
+
+/**
+ * Listener only acting on players with the given protocol in their pipeline, using the plugin's cached pipeline memberships.
+ */
+public abstract class BackwardsBukkitListener extends ViaBukkitListener {
+
+    private final PipelineMembership pipelineMembership;
+    private final int protocolBit;
+
+    protected BackwardsBukkitListener(final BukkitPlugin plugin, final Class<? extends Protocol> requiredPipeline) {
+        super(plugin, requiredPipeline);
+        this.pipelineMembership = plugin.getPipelineMembership();
+        this.protocolBit = pipelineMembership.bit(requiredPipeline);
+    }
+
+    @Override
+    protected boolean isOnPipe(final Player player) {
+        return pipelineMembership.isOnPipe(player, protocolBit);
+    }
+}
@@ -19,7 +19,6 @@ package com.viaversion.viabackwards.listener;
 
 import com.viaversion.viabackwards.BukkitPlugin;
 import com.viaversion.viabackwards.protocol.protocol1_11_1to1_12.Protocol1_11_1To1_12;
-import com.viaversion.viaversion.bukkit.listeners.ViaBukkitListener;
 import org.bukkit.Sound;
 import org.bukkit.SoundCategory;
 import org.bukkit.entity.EntityType;
@@ -28,7 +27,7 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.entity.EntityDamageEvent;
 
-public class FireDamageListener extends ViaBukkitListener {
+public class FireDamageListener extends BackwardsBukkitListener {
 
     public FireDamageListener(BukkitPlugin plugin) {
         super(plugin, Protocol1_11_1To1_12.class);
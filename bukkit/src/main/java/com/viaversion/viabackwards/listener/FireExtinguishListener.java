@@ -19,7 +19,6 @@ package com.viaversion.viabackwards.listener;
 
 import com.viaversion.viabackwards.BukkitPlugin;
 import com.viaversion.viabackwards.protocol.protocol1_15_2to1_16.Protocol1_15_2To1_16;
-import com.viaversion.viaversion.bukkit.listeners.ViaBukkitListener;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
@@ -28,7 +27,7 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEvent;
 
-public class FireExtinguishListener extends ViaBukkitListener {
+public class FireExtinguishListener extends BackwardsBukkitListener {
 
     public FireExtinguishListener(BukkitPlugin plugin) {
         super(plugin, Protocol1_15_2To1_16.class);
@@ -0,0 +1,107 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.listener;
+
+import com.viaversion.viaversion.api.Via;
+import com.viaversion.viaversion.api.connection.UserConnection;
+import com.viaversion.viaversion.api.protocol.Protocol;
+import com.viaversion.viaversion.api.protocol.ProtocolPipeline;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Caches which of the protocols required by the platform listeners are in a player's pipeline,
+ * so frequent events don't have to resolve the connection and pipeline every time.
+ */
+public final class PipelineMembership implements Listener {
+
+    private final List<Class<? extends Protocol>> protocols = new CopyOnWriteArrayList<>();
+    private final Map<UUID, Integer> memberships = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the bit of the given protocol in the cached memberships, adding it if needed.
+     *
+     * @param protocol protocol required by a listener
+     * @return bit index of the protocol
+     */
+    public synchronized int bit(final Class<? extends Protocol> protocol) {
+        int bit = protocols.indexOf(protocol);
+        if (bit != -1) {
+            return bit;
+        }
+        if (protocols.size() == Integer.SIZE) {
+            throw new IllegalStateException("Too many listener protocols");
+        }
+
+        protocols.add(protocol);
+        memberships.clear(); // Cached before this protocol was known
+        return protocols.size() - 1;
+    }
+
+    public boolean isOnPipe(final Player player, final int bit) {
+        Integer membership = memberships.get(player.getUniqueId());
+        if (membership == null) {
+            // Not cached on join, e.g. when quitting; don't cache it here so it can't outlive the player
+            membership = compute(player.getUniqueId());
+            if (membership == null) {
+                return false;
+            }
+        }
+        return (membership & 1 << bit) != 0;
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onJoin(final PlayerJoinEvent event) {
+        final UUID uuid = event.getPlayer().getUniqueId();
+        final Integer membership = compute(uuid);
+        if (membership != null) {
+            memberships.put(uuid, membership);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(final PlayerQuitEvent event) {
+        memberships.remove(event.getPlayer().getUniqueId());
+    }
+
+    private Integer compute(final UUID uuid) {
+        final UserConnection connection = Via.getManager().getConnectionManager().getConnectedClient(uuid);
+        if (connection == null) {
+            return null;
+        }
+
+        final ProtocolPipeline pipeline = connection.getProtocolInfo().getPipeline();
+        int membership = 0;
+        for (int i = 0; i < protocols.size(); i++) {
+            if (pipeline.contains(protocols.get(i))) {
+                membership |= 1 << i;
+            }
+        }
+
+        return membership;
+    }
+}
@@ -20,14 +20,13 @@ package com.viaversion.viabackwards.listener;
 
 import com.viaversion.viabackwards.BukkitPlugin;
 import com.viaversion.viabackwards.protocol.protocol1_13to1_13_1.Protocol1_13To1_13_1;
-import com.viaversion.viaversion.bukkit.listeners.ViaBukkitListener;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.inventory.ItemStack;
 
-public class PlayerItemDropListener extends ViaBukkitListener {
+public class PlayerItemDropListener extends BackwardsBukkitListener {
 
     public PlayerItemDropListener(final BukkitPlugin plugin) {
         super(plugin, Protocol1_13To1_13_1.class); // Starts with 1.13 clients on 1.17 servers
@@ -33,6 +33,10 @@ public class ViaBackwardsConfig extends Config implements com.viaversion.viaback
     private boolean alwaysShowOriginalMobName;
     private boolean fix1_13FormattedInventoryTitles;
     private boolean handlePingsAsInvAcknowledgements;
+    private int diagnosticsSummaryInterval;
+    private int maxTrackedEntities;
+    private int asyncChatSigningThreads;
+    private int translationMetricsInterval;
 
     public ViaBackwardsConfig(File configFile) {
         super(configFile);
@@ -51,6 +55,10 @@ public class ViaBackwardsConfig extends Config implements com.viaversion.viaback
         fix1_13FormattedInventoryTitles = getBoolean("fix-formatted-inventory-titles", true);
         alwaysShowOriginalMobName = getBoolean("always-show-original-mob-name", true);
         handlePingsAsInvAcknowledgements = getBoolean("handle-pings-as-inv-acknowledgements", false);
+        diagnosticsSummaryInterval = getInt("diagnostics-summary-interval", 300);
+        maxTrackedEntities = getInt("max-tracked-entities", 0);
+        asyncChatSigningThreads = getInt("async-chat-signing-threads", 0);
+        translationMetricsInterval = getInt("translation-metrics-interval", 0);
     }
 
     @Override
@@ -83,6 +91,26 @@ public class ViaBackwardsConfig extends Config implements com.viaversion.viaback
         return handlePingsAsInvAcknowledgements || Boolean.getBoolean("com.viaversion.handlePingsAsInvAcknowledgements");
     }
 
+    @Override
+    public int diagnosticsSummaryInterval() {
+        return diagnosticsSummaryInterval;
+    }
+
+    @Override
+    public int maxTrackedEntities() {
+        return maxTrackedEntities;
+    }
+
+    @Override
+    public int asyncChatSigningThreads() {
+        return asyncChatSigningThreads;
+    }
+
+    @Override
+    public int translationMetricsInterval() {
+        return translationMetricsInterval;
+    }
+
     @Override
     public URL getDefaultConfigURL() {
         return getClass().getClassLoader().getResource("assets/viabackwards/config.yml");
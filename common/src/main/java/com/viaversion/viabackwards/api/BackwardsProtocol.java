@@ -18,17 +18,30 @@
 package com.viaversion.viabackwards.api;
 
 import com.viaversion.viabackwards.api.data.BackwardsMappings;
+import com.viaversion.viabackwards.api.metrics.ProtocolMetrics;
+import com.viaversion.viabackwards.api.metrics.TranslationMetrics;
 import com.viaversion.viabackwards.api.rewriters.TranslatableRewriter;
+import com.viaversion.viabackwards.utils.SharedPacketCache;
 import com.viaversion.viaversion.api.Via;
 import com.viaversion.viaversion.api.protocol.AbstractProtocol;
 import com.viaversion.viaversion.api.protocol.Protocol;
 import com.viaversion.viaversion.api.protocol.packet.ClientboundPacketType;
+import com.viaversion.viaversion.api.protocol.packet.Direction;
+import com.viaversion.viaversion.api.protocol.packet.PacketType;
+import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
 import com.viaversion.viaversion.api.protocol.packet.ServerboundPacketType;
+import com.viaversion.viaversion.api.protocol.packet.State;
+import com.viaversion.viaversion.api.protocol.packet.provider.PacketTypeMap;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 public abstract class BackwardsProtocol<CU extends ClientboundPacketType, CM extends ClientboundPacketType, SM extends ServerboundPacketType, SU extends ServerboundPacketType>
     extends AbstractProtocol<CU, CM, SM, SU> {
 
+    private static final int UNRESOLVED = Integer.MIN_VALUE;
+    private int declareCommandsId = UNRESOLVED;
+    private int tagsId = UNRESOLVED;
+    private final ProtocolMetrics metrics = TranslationMetrics.create(this);
+
     protected BackwardsProtocol() {
     }
 
@@ -54,6 +67,77 @@ public abstract class BackwardsProtocol<CU extends ClientboundPacketType, CM ext
         }
     }
 
+    @Override
+    public void transform(Direction direction, State state, PacketWrapper packetWrapper) throws Exception {
+        if (!TranslationMetrics.isEnabled()) {
+            transformPacket(direction, state, packetWrapper);
+            return;
+        }
+
+        final int packetId = packetWrapper.getId();
+        final long start = System.nanoTime();
+        try {
+            transformPacket(direction, state, packetWrapper);
+        } finally {
+            metrics.record(direction, state, packetId, System.nanoTime() - start, packetWrapper.isCancelled());
+        }
+    }
+
+    private void transformPacket(Direction direction, State state, PacketWrapper packetWrapper) throws Exception {
+        if (direction == Direction.CLIENTBOUND && state == State.PLAY && isSharedPacket(packetWrapper.getId())) {
+            SharedPacketCache.handle(this, packetWrapper); // Stops the pipeline if the translated packet has been written
+        }
+        super.transform(direction, state, packetWrapper);
+    }
+
+    /**
+     * Returns the name of the packet type with the given id as received by this protocol.
+     *
+     * @param direction direction of the packet
+     * @param state     state of the packet
+     * @param packetId  unmapped packet id
+     * @return name of the packet type, or its hex id if unknown
+     */
+    public String packetTypeName(Direction direction, State state, int packetId) {
+        final PacketTypeMap<? extends PacketType> types = direction == Direction.CLIENTBOUND
+            ? packetTypesProvider().unmappedClientboundPacketTypes().get(state)
+            : packetTypesProvider().unmappedServerboundPacketTypes().get(state);
+        final PacketType type = types != null ? types.typeById(packetId) : null;
+        return type != null ? type.getName() : "0x" + Integer.toHexString(packetId);
+    }
+
+    /**
+     * Returns the id of the packet type with the given name as received by this protocol.
+     *
+     * @param direction      direction of the packet
+     * @param state          state of the packet
+     * @param packetTypeName name of the packet type
+     * @return unmapped packet id, or -1 if unknown
+     */
+    public int packetTypeId(Direction direction, State state, String packetTypeName) {
+        final PacketType type = direction == Direction.CLIENTBOUND
+            ? packetTypesProvider().unmappedClientboundType(state, packetTypeName)
+            : packetTypesProvider().unmappedServerboundType(state, packetTypeName);
+        return type != null ? type.getId() : -1;
+    }
+
+    /**
+     * Returns the translation metrics of this protocol, only collected if enabled in the config.
+     *
+     * @return translation metrics
+     */
+    public ProtocolMetrics getMetrics() {
+        return metrics;
+    }
+
+    private boolean isSharedPacket(int packetId) {
+        if (declareCommandsId == UNRESOLVED) {
+            tagsId = packetTypeId(Direction.CLIENTBOUND, State.PLAY, "TAGS");
+            declareCommandsId = packetTypeId(Direction.CLIENTBOUND, State.PLAY, "DECLARE_COMMANDS");
+        }
+        return packetId == declareCommandsId || packetId == tagsId;
+    }
+
     @Override
     public boolean hasMappingDataToLoad() {
         // Manually load them later, since they depend on VV's mappings
@@ -63,4 +63,33 @@ public interface ViaBackwardsConfig extends Config {
      * @return true if enabled
      */
     boolean handlePingsAsInvAcknowledgements();
+
+    /**
+     * Returns the interval in seconds in which a summary of ignored invalid packets is logged.
+     *
+     * @return summary interval in seconds, or 0 if disabled
+     */
+    int diagnosticsSummaryInterval();
+
+    /**
+     * Returns the maximum number of entities tracked per connection and protocol, after which the oldest ones are evicted.
+     * Evicted entities only keep their type for later rewrites, their stored data is dropped.
+     *
+     * @return maximum number of tracked entities, or 0 if unlimited
+     */
+    int maxTrackedEntities();
+
+    /**
+     * Returns the number of threads used to sign chat messages and commands of 1.19 clients off the netty threads.
+     *
+     * @return number of chat signing threads, or 0 if messages are signed on the netty threads
+     */
+    int asyncChatSigningThreads();
+
+    /**
+     * Returns the interval in seconds in which the most expensive translated packet types are logged.
+     *
+     * @return summary interval in seconds, or 0 if translation metrics are not collected
+     */
+    int translationMetricsInterval();
 }
@@ -20,6 +20,8 @@ package com.viaversion.viabackwards.api;
 
 import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.ViaBackwardsConfig;
+import com.viaversion.viabackwards.api.diagnostics.Diagnostics;
+import com.viaversion.viabackwards.api.metrics.TranslationMetrics;
 import com.viaversion.viabackwards.api.rewriters.TranslatableRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_10to1_11.Protocol1_10To1_11;
 import com.viaversion.viabackwards.protocol.protocol1_11_1to1_12.Protocol1_11_1To1_12;
@@ -138,6 +140,9 @@ public interface ViaBackwardsPlatform {
         protocolManager.registerProtocol(new Protocol1_20To1_20_2(), ProtocolVersion.v1_20, ProtocolVersion.v1_20_2);
         protocolManager.registerProtocol(new Protocol1_20_2To1_20_3(), ProtocolVersion.v1_20_2, ProtocolVersion.v1_20_3);
         protocolManager.registerProtocol(new Protocol1_20_3To1_20_5(), ProtocolVersion.v1_20_3, ProtocolVersion.v1_20_5);
+
+        Diagnostics.startSummaryTask(config.diagnosticsSummaryInterval());
+        TranslationMetrics.startSummaryTask(config.translationMetricsInterval());
     }
 
     /**
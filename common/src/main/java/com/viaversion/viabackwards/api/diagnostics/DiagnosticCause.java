@@ -0,0 +1,49 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.api.diagnostics;
+
+public enum DiagnosticCause {
+
+    /**
+     * An entity sound was sent for an entity not tracked by the connection.
+     */
+    UNTRACKED_ENTITY_SOUND("untracked entity sound"),
+    /**
+     * An entity position was sent for an entity not tracked by the connection.
+     */
+    UNTRACKED_ENTITY_POSITION("untracked entity position"),
+    /**
+     * A tracked entity is missing its position storage.
+     */
+    MISSING_POSITION_STORAGE("missing entity position storage");
+
+    private static final DiagnosticCause[] VALUES = values();
+    private final String description;
+
+    DiagnosticCause(final String description) {
+        this.description = description;
+    }
+
+    public String description() {
+        return description;
+    }
+
+    static DiagnosticCause[] all() {
+        return VALUES;
+    }
+}
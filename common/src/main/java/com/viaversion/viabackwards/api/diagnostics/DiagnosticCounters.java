@@ -0,0 +1,45 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.api.diagnostics;
+
+import com.viaversion.viaversion.api.connection.StorableObject;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-connection diagnostic event counters, indexed by {@link DiagnosticCause}.
+ */
+public final class DiagnosticCounters implements StorableObject {
+
+    private final AtomicLongArray counts = new AtomicLongArray(DiagnosticCause.all().length);
+
+    void increment(final DiagnosticCause cause) {
+        counts.incrementAndGet(cause.ordinal());
+    }
+
+    public long count(final DiagnosticCause cause) {
+        return counts.get(cause.ordinal());
+    }
+
+    public long total() {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+}
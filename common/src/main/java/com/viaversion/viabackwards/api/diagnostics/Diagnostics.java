@@ -0,0 +1,121 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.api.diagnostics;
+
+import com.viaversion.viabackwards.ViaBackwards;
+import com.viaversion.viaversion.api.Via;
+import com.viaversion.viaversion.api.connection.UserConnection;
+import java.util.concurrent.atomic.LongAdder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Counts recoverable protocol oddities (mostly caused by plugins) instead of logging each of them,
+ * and periodically logs a single aggregated summary.
+ */
+public final class Diagnostics {
+
+    private static final DiagnosticCause[] CAUSES = DiagnosticCause.all();
+    private static final LongAdder[] TOTAL = createAdders();
+    private static final LongAdder[] SINCE_SUMMARY = createAdders();
+    private static volatile boolean summaryTaskStarted;
+
+    private Diagnostics() {
+    }
+
+    /**
+     * Records an event for the given connection.
+     *
+     * @param user  user connection
+     * @param cause cause of the event
+     */
+    public static void record(final UserConnection user, final DiagnosticCause cause) {
+        DiagnosticCounters counters = user.get(DiagnosticCounters.class);
+        if (counters == null) {
+            counters = new DiagnosticCounters();
+            user.put(counters);
+        }
+
+        counters.increment(cause);
+        TOTAL[cause.ordinal()].increment();
+        SINCE_SUMMARY[cause.ordinal()].increment();
+    }
+
+    /**
+     * Returns the counters of the given connection, or null if no event has been recorded for it yet.
+     *
+     * @param user user connection
+     * @return counters of the connection if present
+     */
+    public static @Nullable DiagnosticCounters counters(final UserConnection user) {
+        return user.get(DiagnosticCounters.class);
+    }
+
+    /**
+     * Returns the number of events recorded across all connections since startup.
+     *
+     * @param cause cause of the events
+     * @return total number of events
+     */
+    public static long totalCount(final DiagnosticCause cause) {
+        return TOTAL[cause.ordinal()].sum();
+    }
+
+    /**
+     * Starts logging an aggregated summary every interval, if there have been any events.
+     *
+     * @param intervalSeconds summary interval in seconds, disabled if not positive
+     */
+    public static void startSummaryTask(final int intervalSeconds) {
+        if (intervalSeconds <= 0 || summaryTaskStarted) {
+            return;
+        }
+
+        summaryTaskStarted = true;
+        Via.getPlatform().runRepeatingAsync(() -> logSummary(intervalSeconds), intervalSeconds * 20L);
+    }
+
+    private static void logSummary(final int intervalSeconds) {
+        final StringBuilder builder = new StringBuilder();
+        long total = 0;
+        for (final DiagnosticCause cause : CAUSES) {
+            final long count = SINCE_SUMMARY[cause.ordinal()].sumThenReset();
+            if (count == 0) {
+                continue;
+            }
+
+            if (total != 0) {
+                builder.append(", ");
+            }
+            builder.append(cause.description()).append(": ").append(count);
+            total += count;
+        }
+
+        if (total != 0) {
+            ViaBackwards.getPlatform().getLogger().warning("Ignored " + total + " invalid packets in the last " + intervalSeconds + "s (" + builder
+                + "). This is usually caused by plugins sending packets for entities outside of the player's range.");
+        }
+    }
+
+    private static LongAdder[] createAdders() {
+        final LongAdder[] adders = new LongAdder[CAUSES.length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.api.entities.storage;
+
+import com.viaversion.viabackwards.ViaBackwards;
+import com.viaversion.viaversion.api.connection.UserConnection;
+import com.viaversion.viaversion.api.data.entity.StoredEntityData;
+import com.viaversion.viaversion.api.data.entity.TrackedEntity;
+import com.viaversion.viaversion.api.minecraft.entities.EntityType;
+import com.viaversion.viaversion.data.entity.EntityTrackerBase;
+import com.viaversion.viaversion.libs.fastutil.ints.Int2IntMap;
+import com.viaversion.viaversion.libs.fastutil.ints.Int2IntOpenHashMap;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Entity tracker keeping track of the spawn order and estimated memory usage of tracked entities,
+ * evicting the oldest entities once the configured maximum amount of tracked entities is exceeded.
+ * <p>
+ * Entities despawned by the client are already removed, and whether the remaining ones are still visible can't be
+ * known for most entities. Evicted entities are therefore no longer returned by {@link #entity(int)}, but keep their type
+ * in {@link #entityType(int)}, so that type based rewrites of their later packets still apply. Rewrites depending on
+ * stored data are skipped for them. At most as many types are kept as entities are tracked, forgetting the ones evicted
+ * first.
+ */
+public class BackwardsEntityTracker extends EntityTrackerBase {
+
+    private static final Map<Class<?>, Integer> STORAGE_SIZES = new ConcurrentHashMap<>();
+    private static final int TRACKED_ENTITY_SIZE = 48; // Tracked entity, map entries and spawn order
+    private static final int STORED_DATA_SIZE = 64; // Stored data and its backing map
+    private static final int STORED_DATA_ENTRY_SIZE = 32;
+    private static final int EVICTED_ENTITY_SIZE = 56; // Linked map entry and boxed id of the evicted type
+    private final Int2IntMap spawnOrder = new Int2IntOpenHashMap();
+    private final Map<Integer, EntityType> evictedTypes = new LinkedHashMap<>(); // In eviction order
+    private int spawnCounter;
+
+    public BackwardsEntityTracker(final UserConnection connection, @Nullable final EntityType playerType) {
+        super(connection, playerType);
+    }
+
+    /**
+     * Registers the estimated retained size of a per-entity storage class, used for memory estimations.
+     *
+     * @param storageClass   storage class put into an entity's stored data
+     * @param estimatedBytes estimated retained size in bytes
+     */
+    public static void registerStorageSize(final Class<?> storageClass, final int estimatedBytes) {
+        STORAGE_SIZES.put(storageClass, estimatedBytes);
+    }
+
+    @Override
+    public void addEntity(final int id, final EntityType type) {
+        super.addEntity(id, type);
+        evictedTypes.remove(id);
+        if (spawnCounter == Integer.MAX_VALUE) {
+            rebaseSpawnOrder();
+        }
+        spawnOrder.put(id, spawnCounter++);
+
+        final int maxTrackedEntities = ViaBackwards.getConfig().maxTrackedEntities();
+        if (maxTrackedEntities > 0 && spawnOrder.size() > maxTrackedEntities) {
+            evictOldest(spawnOrder.size() - maxTrackedEntities + maxTrackedEntities / 10, maxTrackedEntities);
+        }
+    }
+
+    @Override
+    public void removeEntity(final int id) {
+        super.removeEntity(id);
+        spawnOrder.remove(id);
+        evictedTypes.remove(id);
+    }
+
+    @Override
+    public void clearEntities() {
+        super.clearEntities();
+        spawnOrder.clear();
+        evictedTypes.clear();
+    }
+
+    @Override
+    public @Nullable EntityType entityType(final int id) {
+        final EntityType type = super.entityType(id);
+        return type != null ? type : evictedTypes.get(id);
+    }
+
+    /**
+     * Returns the number of entities tracked by this tracker.
+     *
+     * @return number of tracked entities
+     */
+    public int trackedEntities() {
+        return spawnOrder.size();
+    }
+
+    /**
+     * Returns the estimated memory usage of the tracked entities and their stored data.
+     * This iterates over all tracked entities and should not be called on every packet. It has to be called on the
+     * connection's event loop, see {@link com.viaversion.viabackwards.api.footprint.FootprintReport}.
+     *
+     * @return estimated memory usage
+     */
+    public EntityMemoryUsage memoryUsage() {
+        final Map<Class<?>, Long> storageBytes = new HashMap<>();
+        long bytes = (long) spawnOrder.size() * TRACKED_ENTITY_SIZE;
+        for (final int id : spawnOrder.keySet()) {
+            final TrackedEntity entity = entity(id);
+            if (entity == null || !entity.hasData()) {
+                continue;
+            }
+
+            bytes += STORED_DATA_SIZE;
+            final StoredEntityData data = entity.data();
+            for (final Map.Entry<Class<?>, Integer> entry : STORAGE_SIZES.entrySet()) {
+                if (data.has(entry.getKey())) {
+                    final int size = entry.getValue() + STORED_DATA_ENTRY_SIZE;
+                    storageBytes.merge(entry.getKey(), (long) size, Long::sum);
+                    bytes += size;
+                }
+            }
+        }
+        bytes += (long) evictedTypes.size() * EVICTED_ENTITY_SIZE;
+        return new EntityMemoryUsage(spawnOrder.size(), bytes, storageBytes);
+    }
+
+    private void evictOldest(final int amount, final int maxEvictedTypes) {
+        // Evict in batches to not have to search for the oldest entities on every spawn
+        final int clientEntityId = hasClientEntityId() ? clientEntityId() : Integer.MIN_VALUE;
+        final long[] entries = sortedSpawnOrder();
+        for (int i = 0, evicted = 0; i < entries.length && evicted < amount; i++) {
+            final int id = (int) entries[i];
+            if (id == clientEntityId) {
+                continue;
+            }
+
+            final TrackedEntity entity = super.entity(id);
+            super.removeEntity(id);
+            spawnOrder.remove(id);
+            if (entity != null) {
+                evictedTypes.put(id, entity.entityType());
+            }
+            evicted++;
+        }
+
+        final Iterator<Integer> iterator = evictedTypes.keySet().iterator();
+        while (evictedTypes.size() > maxEvictedTypes && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private void rebaseSpawnOrder() {
+        // Keep the order while making room for new spawns
+        final long[] entries = sortedSpawnOrder();
+        for (int i = 0; i < entries.length; i++) {
+            spawnOrder.put((int) entries[i], i);
+        }
+        spawnCounter = entries.length;
+    }
+
+    private long[] sortedSpawnOrder() {
+        final long[] entries = new long[spawnOrder.size()];
+        int size = 0;
+        for (final Int2IntMap.Entry entry : spawnOrder.int2IntEntrySet()) {
+            entries[size++] = ((long) entry.getIntValue() << 32) | (entry.getIntKey() & 0xFFFFFFFFL);
+        }
+
+        Arrays.sort(entries);
+        return entries;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.api.entities.storage;
+
+import com.viaversion.viaversion.api.connection.UserConnection;
+import com.viaversion.viaversion.api.data.entity.EntityTracker;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Estimated memory usage of tracked entities.
+ */
+public final class EntityMemoryUsage {
+
+    private final int entities;
+    private final long estimatedBytes;
+    private final Map<Class<?>, Long> storageBytes;
+
+    public EntityMemoryUsage(final int entities, final long estimatedBytes, final Map<Class<?>, Long> storageBytes) {
+        this.entities = entities;
+        this.estimatedBytes = estimatedBytes;
+        this.storageBytes = Collections.unmodifiableMap(storageBytes);
+    }
+
+    /**
+     * Returns the combined estimated memory usage of all backwards entity trackers of the given connection.
+     * Has to be called on the connection's event loop.
+     *
+     * @param connection user connection
+     * @return estimated memory usage of the connection's entity trackers
+     */
+    public static EntityMemoryUsage of(final UserConnection connection) {
+        final Map<Class<?>, Long> storageBytes = new HashMap<>();
+        int entities = 0;
+        long estimatedBytes = 0;
+        for (final EntityTracker tracker : connection.getEntityTrackers()) {
+            if (!(tracker instanceof BackwardsEntityTracker)) {
+                continue;
+            }
+
+            final EntityMemoryUsage usage = ((BackwardsEntityTracker) tracker).memoryUsage();
+            entities += usage.entities;
+            estimatedBytes += usage.estimatedBytes;
+            usage.storageBytes.forEach((storageClass, bytes) -> storageBytes.merge(storageClass, bytes, Long::sum));
+        }
+        return new EntityMemoryUsage(entities, estimatedBytes, storageBytes);
+    }
+
+    /**
+     * Returns the number of tracked entities.
+     *
+     * @return number of tracked entities
+     */
+    public int entities() {
+        return entities;
+    }
+
+    /**
+     * Returns the estimated memory usage in bytes, including all stored data.
+     *
+     * @return estimated memory usage in bytes
+     */
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * Returns the estimated memory usage in bytes per registered storage type.
+     *
+     * @return estimated memory usage in bytes per storage type
+     */
+    public Map<Class<?>, Long> storageBytes() {
+        return storageBytes;
+    }
+}
@@ -18,6 +18,8 @@
 package com.viaversion.viabackwards.api.entities.storage;
 
 import com.viaversion.viabackwards.ViaBackwards;
+import com.viaversion.viabackwards.api.diagnostics.DiagnosticCause;
+import com.viaversion.viabackwards.api.diagnostics.Diagnostics;
 import com.viaversion.viabackwards.api.rewriters.EntityRewriterBase;
 import com.viaversion.viaversion.api.Via;
 import com.viaversion.viaversion.api.connection.UserConnection;
@@ -50,6 +52,7 @@ public class EntityPositionHandler {
         int entityId = wrapper.get(Type.VAR_INT, 0);
         StoredEntityData storedEntity = entityRewriter.tracker(wrapper.user()).entityData(entityId);
         if (storedEntity == null) {
+            Diagnostics.record(wrapper.user(), DiagnosticCause.UNTRACKED_ENTITY_POSITION);
             if (Via.getManager().isDebug()) { // There is too many plugins violating this out there, and reading seems to be hard! :>
                 ViaBackwards.getPlatform().getLogger().warning("Stored entity with id " + entityId + " missing at position: " + x + " - " + y + " - " + z + " in " + storageClass.getSimpleName());
                 if (entityId == -1 && x == 0 && y == 0 && z == 0) {
@@ -69,7 +72,10 @@ public class EntityPositionHandler {
         } else {
             positionStorage = storedEntity.get(storageClass);
             if (positionStorage == null) {
-                ViaBackwards.getPlatform().getLogger().warning("Stored entity with id " + entityId + " missing " + storageClass.getSimpleName());
+                Diagnostics.record(wrapper.user(), DiagnosticCause.MISSING_POSITION_STORAGE);
+                if (Via.getManager().isDebug()) {
+                    ViaBackwards.getPlatform().getLogger().warning("Stored entity with id " + entityId + " missing " + storageClass.getSimpleName());
+                }
                 return;
             }
         }
@@ -81,7 +87,10 @@ public class EntityPositionHandler {
         StoredEntityData storedEntity = entityRewriter.tracker(user).entityData(entityId);
         EntityPositionStorage entityStorage;
         if (storedEntity == null || (entityStorage = storedEntity.get(EntityPositionStorage.class)) == null) {
-            ViaBackwards.getPlatform().getLogger().warning("Untracked entity with id " + entityId + " in " + storageClass.getSimpleName());
+            Diagnostics.record(user, DiagnosticCause.UNTRACKED_ENTITY_POSITION);
+            if (Via.getManager().isDebug()) {
+                ViaBackwards.getPlatform().getLogger().warning("Untracked entity with id " + entityId + " in " + storageClass.getSimpleName());
+            }
             return null;
         }
         return entityStorage;
@@ -0,0 +1,328 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.api.footprint;
+
+import com.viaversion.viabackwards.api.entities.storage.BackwardsEntityTracker;
+import com.viaversion.viabackwards.api.entities.storage.EntityMemoryUsage;
+import com.viaversion.viaversion.api.Via;
+import com.viaversion.viaversion.api.connection.UserConnection;
+import com.viaversion.viaversion.libs.opennbt.tag.builtin.ByteArrayTag;
+import com.viaversion.viaversion.libs.opennbt.tag.builtin.CompoundTag;
+import com.viaversion.viaversion.libs.opennbt.tag.builtin.IntArrayTag;
+import com.viaversion.viaversion.libs.opennbt.tag.builtin.ListTag;
+import com.viaversion.viaversion.libs.opennbt.tag.builtin.LongArrayTag;
+import com.viaversion.viaversion.libs.opennbt.tag.builtin.StringTag;
+import com.viaversion.viaversion.libs.opennbt.tag.builtin.Tag;
+import io.netty.channel.Channel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Estimated memory retained by the per-connection storages of all connections, sorted by the biggest consumers.
+ * <p>
+ * Storages are read on the event loop of their connection, as they are only ever modified there. Sizes are still
+ * approximations meant to spot storages that grow without bounds rather than exact numbers.
+ */
+public final class FootprintReport {
+
+    private static final Set<Class<? extends StorageFootprint>> STORAGES = ConcurrentHashMap.newKeySet();
+    private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private final List<StorageUsage> storages;
+    private final List<ConnectionUsage> connections;
+
+    private FootprintReport(final List<StorageUsage> storages, final List<ConnectionUsage> connections) {
+        this.storages = Collections.unmodifiableList(storages);
+        this.connections = Collections.unmodifiableList(connections);
+    }
+
+    /**
+     * Registers a storage type to be included in footprint reports.
+     *
+     * @param storageClass storage class
+     */
+    public static void register(final Class<? extends StorageFootprint> storageClass) {
+        STORAGES.add(storageClass);
+    }
+
+    /**
+     * Creates a report across all current connections. This waits for the event loops of the connections to collect
+     * their usage, connections not responding within a second are left out.
+     *
+     * @return footprint report
+     */
+    public static FootprintReport create() {
+        final List<UserConnection> userConnections = new ArrayList<>(Via.getManager().getConnectionManager().getConnections());
+        final List<Future<List<StorageUsage>>> futures = new ArrayList<>(userConnections.size());
+        for (final UserConnection connection : userConnections) {
+            futures.add(collect(connection));
+        }
+
+        final long deadline = System.nanoTime() + TIMEOUT_NANOS;
+        final Map<Class<?>, StorageUsage> storages = new LinkedHashMap<>();
+        final List<ConnectionUsage> connections = new ArrayList<>();
+        for (int i = 0; i < userConnections.size(); i++) {
+            final UserConnection connection = userConnections.get(i);
+            final List<StorageUsage> usages = await(futures.get(i), deadline);
+            if (usages == null) {
+                continue;
+            }
+
+            long entries = 0;
+            long bytes = 0;
+            for (final StorageUsage usage : usages) {
+                storages.computeIfAbsent(usage.storage, StorageUsage::new).add(usage);
+                entries += usage.entries;
+                bytes += usage.bytes;
+            }
+            connections.add(new ConnectionUsage(connection, entries, bytes));
+        }
+
+        final List<StorageUsage> sortedStorages = new ArrayList<>(storages.values());
+        sortedStorages.sort(Comparator.comparingLong(StorageUsage::bytes).reversed());
+        connections.sort(Comparator.comparingLong(ConnectionUsage::bytes).reversed());
+        return new FootprintReport(sortedStorages, connections);
+    }
+
+    /**
+     * Returns the estimated footprint of each storage of the given connection, sorted by the biggest consumers.
+     * If called outside of the connection's event loop, this waits up to a second for the event loop to collect them.
+     *
+     * @param connection user connection
+     * @return storage footprints of the connection, or null if they could not be collected in time
+     */
+    public static @Nullable List<StorageUsage> connection(final UserConnection connection) {
+        return await(collect(connection), System.nanoTime() + TIMEOUT_NANOS);
+    }
+
+    private static Future<List<StorageUsage>> collect(final UserConnection connection) {
+        final Channel channel = connection.getChannel();
+        if (channel == null || channel.eventLoop().inEventLoop()) {
+            return CompletableFuture.completedFuture(collectOnEventLoop(connection));
+        }
+
+        try {
+            return channel.eventLoop().submit(() -> collectOnEventLoop(connection));
+        } catch (final RejectedExecutionException e) {
+            // Event loop shut down, the connection is gone
+            final CompletableFuture<List<StorageUsage>> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
+
+    private static @Nullable List<StorageUsage> await(final Future<List<StorageUsage>> future, final long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException | TimeoutException ignored) {
+            // Busy or closed connection, leave it out
+        }
+        future.cancel(false);
+        return null;
+    }
+
+    private static List<StorageUsage> collectOnEventLoop(final UserConnection connection) {
+        final List<StorageUsage> usages = new ArrayList<>();
+        for (final Class<? extends StorageFootprint> storageClass : STORAGES) {
+            final StorageFootprint storage = connection.get(storageClass);
+            if (storage != null) {
+                usages.add(new StorageUsage(storageClass, storage.footprintEntries(), storage.footprintBytes()));
+            }
+        }
+
+        final EntityMemoryUsage entityUsage = EntityMemoryUsage.of(connection);
+        if (entityUsage.entities() != 0) {
+            usages.add(new StorageUsage(BackwardsEntityTracker.class, entityUsage.entities(), entityUsage.estimatedBytes()));
+        }
+
+        usages.sort(Comparator.comparingLong(StorageUsage::bytes).reversed());
+        return usages;
+    }
+
+    /**
+     * Returns a rough estimate of the memory retained by the given tag, including nested tags.
+     *
+     * @param tag tag
+     * @return estimated retained bytes
+     */
+    public static long estimateBytes(final @Nullable Tag tag) {
+        if (tag == null) {
+            return 0;
+        }
+        if (tag instanceof CompoundTag) {
+            long bytes = 48;
+            for (final Map.Entry<String, Tag> entry : ((CompoundTag) tag).entrySet()) {
+                bytes += 32 + estimateStringBytes(entry.getKey()) + estimateBytes(entry.getValue());
+            }
+            return bytes;
+        }
+        if (tag instanceof ListTag) {
+            long bytes = 40;
+            for (final Tag element : (ListTag<?>) tag) {
+                bytes += 8 + estimateBytes(element);
+            }
+            return bytes;
+        }
+        if (tag instanceof StringTag) {
+            return 16 + estimateStringBytes(((StringTag) tag).getValue());
+        }
+        if (tag instanceof ByteArrayTag) {
+            return 32 + ((ByteArrayTag) tag).length();
+        }
+        if (tag instanceof IntArrayTag) {
+            return 32 + ((IntArrayTag) tag).length() * 4L;
+        }
+        if (tag instanceof LongArrayTag) {
+            return 32 + ((LongArrayTag) tag).length() * 8L;
+        }
+        return 24; // Number tags
+    }
+
+    /**
+     * Returns a rough estimate of the memory retained by the given string.
+     *
+     * @param string string
+     * @return estimated retained bytes
+     */
+    public static long estimateStringBytes(final @Nullable String string) {
+        return string != null ? 40 + string.length() * 2L : 0;
+    }
+
+    /**
+     * Returns the footprint per storage type across all connections, sorted by the biggest consumers.
+     *
+     * @return footprint per storage type
+     */
+    public List<StorageUsage> storages() {
+        return storages;
+    }
+
+    /**
+     * Returns the footprint per connection, sorted by the biggest consumers.
+     *
+     * @return footprint per connection
+     */
+    public List<ConnectionUsage> connections() {
+        return connections;
+    }
+
+    public static final class StorageUsage {
+        private final Class<?> storage;
+        private int connections;
+        private long entries;
+        private long bytes;
+        private long maxBytes;
+
+        private StorageUsage(final Class<?> storage) {
+            this.storage = storage;
+        }
+
+        private StorageUsage(final Class<?> storage, final long entries, final long bytes) {
+            this.storage = storage;
+            this.connections = 1;
+            this.entries = entries;
+            this.bytes = bytes;
+            this.maxBytes = bytes;
+        }
+
+        private void add(final StorageUsage usage) {
+            connections += usage.connections;
+            entries += usage.entries;
+            bytes += usage.bytes;
+            maxBytes = Math.max(maxBytes, usage.maxBytes);
+        }
+
+        public Class<?> storage() {
+            return storage;
+        }
+
+        /**
+         * Returns the number of connections holding this storage.
+         *
+         * @return number of connections
+         */
+        public int connections() {
+            return connections;
+        }
+
+        public long entries() {
+            return entries;
+        }
+
+        public long bytes() {
+            return bytes;
+        }
+
+        /**
+         * Returns the biggest estimated footprint of this storage in a single connection.
+         *
+         * @return biggest footprint of a single connection in bytes
+         */
+        public long maxBytes() {
+            return maxBytes;
+        }
+
+        @Override
+        public String toString() {
+            return storage.getSimpleName() + ": " + bytes + " bytes, " + entries + " entries in " + connections + " connections (max " + maxBytes + " bytes)";
+        }
+    }
+
+    public static final class ConnectionUsage {
+        private final UserConnection connection;
+        private final long entries;
+        private final long bytes;
+
+        private ConnectionUsage(final UserConnection connection, final long entries, final long bytes) {
+            this.connection = connection;
+            this.entries = entries;
+            this.bytes = bytes;
+        }
+
+        public UserConnection connection() {
+            return connection;
+        }
+
+        public long entries() {
+            return entries;
+        }
+
+        public long bytes() {
+            return bytes;
+        }
+
+        @Override
+        public String toString() {
+            return connection.getProtocolInfo().getUsername() + ": " + bytes + " bytes, " + entries + " entries";
+        }
+    }
+}
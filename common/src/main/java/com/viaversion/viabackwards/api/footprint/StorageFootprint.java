@@ -0,0 +1,41 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.api.footprint;
+
+import com.viaversion.viaversion.api.connection.StorableObject;
+
+/**
+ * Storage reporting an estimate of the memory it retains, see {@link FootprintReport}.
+ * Both methods are called on the event loop of the storage's connection.
+ */
+public interface StorageFootprint extends StorableObject {
+
+    /**
+     * Returns the number of entries currently held by this storage.
+     *
+     * @return number of entries
+     */
+    int footprintEntries();
+
+    /**
+     * Returns the estimated number of bytes retained by this storage, excluding shared or static data.
+     *
+     * @return estimated retained bytes
+     */
+    long footprintBytes();
+}
@@ -0,0 +1,146 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.api.metrics;
+
+import com.viaversion.viaversion.api.protocol.Protocol;
+import com.viaversion.viaversion.api.protocol.packet.Direction;
+import com.viaversion.viaversion.api.protocol.packet.State;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Translation metrics of a single packet type in a single protocol. Handler times are kept in a histogram with
+ * power of two buckets, so percentiles are upper bounds of the bucket they fall into.
+ */
+public final class PacketMetrics {
+
+    private static final int BUCKETS = 40;
+    private final Class<? extends Protocol> protocol;
+    private final Direction direction;
+    private final State state;
+    private final int packetId;
+    private final String packetName;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder[] histogram = new LongAdder[BUCKETS];
+    // Only accessed by the summary task
+    long summaryCount;
+    long summaryNanos;
+
+    PacketMetrics(final Class<? extends Protocol> protocol, final Direction direction, final State state, final int packetId, final String packetName) {
+        this.protocol = protocol;
+        this.direction = direction;
+        this.state = state;
+        this.packetId = packetId;
+        this.packetName = packetName;
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = new LongAdder();
+        }
+    }
+
+    void record(final long nanos, final boolean cancelled) {
+        count.increment();
+        totalNanos.add(nanos);
+        histogram[bucket(nanos)].increment();
+        if (cancelled) {
+            this.cancelled.increment();
+        }
+    }
+
+    public Class<? extends Protocol> protocol() {
+        return protocol;
+    }
+
+    public Direction direction() {
+        return direction;
+    }
+
+    public State state() {
+        return state;
+    }
+
+    public int packetId() {
+        return packetId;
+    }
+
+    public String packetName() {
+        return packetName;
+    }
+
+    /**
+     * Returns the number of packets handled.
+     *
+     * @return number of handled packets
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the number of packets cancelled by the protocol.
+     *
+     * @return number of cancelled packets
+     */
+    public long cancelled() {
+        return cancelled.sum();
+    }
+
+    /**
+     * Returns the total time spent in the protocol's handlers.
+     *
+     * @return total handler time in nanoseconds
+     */
+    public long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Returns an upper bound of the given handler time percentile.
+     *
+     * @param percentile percentile between 0 and 1
+     * @return upper bound of the percentile in nanoseconds, or 0 if no packets have been handled
+     */
+    public long percentileNanos(final double percentile) {
+        final long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = histogram[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        final long target = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return 1L << (i + 1);
+            }
+        }
+        return 1L << BUCKETS;
+    }
+
+    private static int bucket(final long nanos) {
+        if (nanos <= 1) {
+            return 0;
+        }
+        return Math.min(63 - Long.numberOfLeadingZeros(nanos), BUCKETS - 1);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.api.metrics;
+
+import com.viaversion.viabackwards.api.BackwardsProtocol;
+import com.viaversion.viaversion.api.protocol.packet.Direction;
+import com.viaversion.viaversion.api.protocol.packet.State;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Translation metrics of all packet types of a protocol, indexed by direction, state and packet id.
+ */
+public final class ProtocolMetrics {
+
+    private static final int MAX_PACKET_ID = 256;
+    private static final State[] STATES = State.values();
+    private final BackwardsProtocol<?, ?, ?, ?> protocol;
+    private volatile AtomicReferenceArray<PacketMetrics> packets; // Only allocated once the first packet is recorded
+
+    ProtocolMetrics(final BackwardsProtocol<?, ?, ?, ?> protocol) {
+        this.protocol = protocol;
+    }
+
+    /**
+     * Records the handling of a packet.
+     *
+     * @param direction direction of the packet
+     * @param state     state of the packet
+     * @param packetId  unmapped packet id
+     * @param nanos     time spent in the protocol
+     * @param cancelled whether the packet has been cancelled
+     */
+    public void record(final Direction direction, final State state, final int packetId, final long nanos, final boolean cancelled) {
+        if (packetId < 0 || packetId >= MAX_PACKET_ID) {
+            return;
+        }
+
+        AtomicReferenceArray<PacketMetrics> packets = this.packets;
+        if (packets == null) {
+            packets = createPackets();
+        }
+
+        final int index = (direction.ordinal() * STATES.length + state.ordinal()) * MAX_PACKET_ID + packetId;
+        PacketMetrics metrics = packets.get(index);
+        if (metrics == null) {
+            metrics = new PacketMetrics(protocol.getClass(), direction, state, packetId, protocol.packetTypeName(direction, state, packetId));
+            if (!packets.compareAndSet(index, null, metrics)) {
+                metrics = packets.get(index);
+            }
+        }
+        metrics.record(nanos, cancelled);
+    }
+
+    /**
+     * Returns the metrics of all packet types handled so far.
+     *
+     * @return metrics of handled packet types
+     */
+    public List<PacketMetrics> packets() {
+        final List<PacketMetrics> list = new ArrayList<>();
+        final AtomicReferenceArray<PacketMetrics> packets = this.packets;
+        if (packets == null) {
+            return list;
+        }
+
+        for (int i = 0; i < packets.length(); i++) {
+            final PacketMetrics metrics = packets.get(i);
+            if (metrics != null) {
+                list.add(metrics);
+            }
+        }
+        return list;
+    }
+
+    private synchronized AtomicReferenceArray<PacketMetrics> createPackets() {
+        if (packets == null) {
+            packets = new AtomicReferenceArray<>(2 * STATES.length * MAX_PACKET_ID);
+        }
+        return packets;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.api.metrics;
+
+import com.viaversion.viabackwards.ViaBackwards;
+import com.viaversion.viabackwards.api.BackwardsProtocol;
+import com.viaversion.viaversion.api.Via;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects handler counts and times per protocol, direction and packet type, and periodically logs the most
+ * expensive packet types. Nothing is measured unless enabled through the config.
+ */
+public final class TranslationMetrics {
+
+    private static final int SUMMARY_ENTRIES = 10;
+    private static final List<ProtocolMetrics> PROTOCOLS = new CopyOnWriteArrayList<>();
+    private static volatile boolean enabled;
+
+    private TranslationMetrics() {
+    }
+
+    /**
+     * Returns whether translation metrics are being collected.
+     *
+     * @return true if enabled
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Creates the metrics of a protocol, included in {@link #packets()}.
+     *
+     * @param protocol protocol
+     * @return protocol metrics
+     */
+    public static ProtocolMetrics create(final BackwardsProtocol<?, ?, ?, ?> protocol) {
+        final ProtocolMetrics metrics = new ProtocolMetrics(protocol);
+        PROTOCOLS.add(metrics);
+        return metrics;
+    }
+
+    /**
+     * Returns the metrics of all packet types handled so far across all protocols.
+     *
+     * @return metrics of handled packet types
+     */
+    public static List<PacketMetrics> packets() {
+        final List<PacketMetrics> packets = new ArrayList<>();
+        for (final ProtocolMetrics protocol : PROTOCOLS) {
+            packets.addAll(protocol.packets());
+        }
+        return packets;
+    }
+
+    /**
+     * Enables collecting metrics and logs the most expensive packet types every interval.
+     *
+     * @param intervalSeconds summary interval in seconds, disabled if not positive
+     */
+    public static void startSummaryTask(final int intervalSeconds) {
+        if (intervalSeconds <= 0 || enabled) {
+            return;
+        }
+
+        enabled = true;
+        Via.getPlatform().runRepeatingAsync(() -> logSummary(intervalSeconds), intervalSeconds * 20L);
+    }
+
+    private static void logSummary(final int intervalSeconds) {
+        final List<PacketMetrics> packets = packets();
+        final List<long[]> deltas = new ArrayList<>(packets.size());
+        for (int i = 0; i < packets.size(); i++) {
+            final PacketMetrics metrics = packets.get(i);
+            final long count = metrics.count();
+            final long nanos = metrics.totalNanos();
+            deltas.add(new long[]{i, count - metrics.summaryCount, nanos - metrics.summaryNanos});
+            metrics.summaryCount = count;
+            metrics.summaryNanos = nanos;
+        }
+
+        deltas.removeIf(delta -> delta[1] == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        deltas.sort(Comparator.comparingLong((long[] delta) -> delta[2]).reversed());
+        final StringBuilder builder = new StringBuilder("Most expensive packets translated in the last ").append(intervalSeconds).append("s:");
+        for (int i = 0; i < Math.min(SUMMARY_ENTRIES, deltas.size()); i++) {
+            final long[] delta = deltas.get(i);
+            final PacketMetrics metrics = packets.get((int) delta[0]);
+            builder.append("\n - ").append(metrics.protocol().getSimpleName())
+                .append(' ').append(metrics.direction()).append(' ').append(metrics.state()).append(' ').append(metrics.packetName())
+                .append(": ").append(delta[1]).append(" packets, ").append(TimeUnit.NANOSECONDS.toMillis(delta[2])).append("ms")
+                .append(", p99 overall below ").append(TimeUnit.NANOSECONDS.toMicros(metrics.percentileNanos(0.99))).append("us");
+        }
+        ViaBackwards.getPlatform().getLogger().info(builder.toString());
+    }
+}
@@ -57,7 +57,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 public abstract class LegacyBlockItemRewriter<C extends ClientboundPacketType, S extends ServerboundPacketType,
     T extends BackwardsProtocol<C, ?, ?, S>> extends BackwardsItemRewriterBase<C, S, T> {
 
+    private static final int LEGACY_BLOCK_STATES = 256 << 4;
     protected final Int2ObjectMap<MappedLegacyBlockItem> replacementData = new Int2ObjectOpenHashMap<>(8); // Raw id -> mapped data
+    private volatile int[] blockIdTable;
 
     protected LegacyBlockItemRewriter(T protocol, String name, Type<Item> itemType, Type<Item[]> itemArrayType, Type<Item> mappedItemType, Type<Item[]> mappedItemArrayType) {
         super(protocol, itemType, itemArrayType, mappedItemType, mappedItemArrayType, false);
@@ -140,22 +142,45 @@ public abstract class LegacyBlockItemRewriter<C extends ClientboundPacketType, S
     }
 
     public void registerMultiBlockChange(C packetType) {
+        MultiBlockChangeTranscoder.registerHandler(protocol.getClass());
         protocol.registerClientbound(packetType, new PacketHandlers() {
             @Override
             public void register() {
                 map(Type.INT); // 0 - Chunk X
                 map(Type.INT); // 1 - Chunk Z
-                map(Type.BLOCK_CHANGE_RECORD_ARRAY);
 
                 handler(wrapper -> {
-                    for (BlockChangeRecord record : wrapper.get(Type.BLOCK_CHANGE_RECORD_ARRAY, 0)) {
-                        record.setBlockId(handleBlockId(record.getBlockId()));
+                    if (MultiBlockChangeTranscoder.isLastHandler(wrapper.user(), protocol)) {
+                        long[] records = MultiBlockChangeTranscoder.readRecords(wrapper);
+                        for (int i = 0; i < records.length; i++) {
+                            long record = records[i];
+                            records[i] = MultiBlockChangeTranscoder.withBlockId(record, mappedBlockId(MultiBlockChangeTranscoder.blockId(record)));
+                        }
+                        wrapper.write(MultiBlockChangeTranscoder.PACKED_RECORDS, records);
+                        return;
+                    }
+
+                    for (BlockChangeRecord record : wrapper.passthrough(Type.BLOCK_CHANGE_RECORD_ARRAY)) {
+                        record.setBlockId(mappedBlockId(record.getBlockId()));
                     }
                 });
             }
         });
     }
 
+    private int mappedBlockId(int rawId) {
+        int[] table = blockIdTable;
+        if (table == null) {
+            // Resolve all legacy block states at once, their mappings don't change after loading
+            table = new int[LEGACY_BLOCK_STATES];
+            for (int i = 0; i < table.length; i++) {
+                table[i] = handleBlockId(i);
+            }
+            blockIdTable = table;
+        }
+        return rawId >= 0 && rawId < table.length ? table[rawId] : handleBlockId(rawId);
+    }
+
     @Override
     public @Nullable Item handleItemToClient(UserConnection connection, @Nullable Item item) {
         if (item == null) return null;
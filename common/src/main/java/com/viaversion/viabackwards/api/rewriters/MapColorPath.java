@@ -0,0 +1,81 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.api.rewriters;
+
+import com.viaversion.viaversion.api.connection.StorableObject;
+import com.viaversion.viaversion.api.connection.UserConnection;
+import com.viaversion.viaversion.api.protocol.Protocol;
+import java.util.List;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Map color rewrites of all protocols in a connection's pipeline, composed into a single lookup table.
+ */
+public final class MapColorPath implements StorableObject {
+
+    private final Class<? extends Protocol> firstProtocol;
+    private final byte[] table;
+
+    private MapColorPath(final Class<? extends Protocol> firstProtocol, final byte @Nullable [] table) {
+        this.firstProtocol = firstProtocol;
+        this.table = table;
+    }
+
+    static @Nullable MapColorPath create(final UserConnection user, final Map<Class<? extends Protocol>, byte[]> tables) {
+        final List<Protocol> protocols = user.getProtocolInfo().getPipeline().pipes();
+        Class<? extends Protocol> firstProtocol = null;
+        byte[] composed = null;
+        // Clientbound packets go through the pipeline in reverse order
+        for (int i = protocols.size() - 1; i >= 0; i--) {
+            final Class<? extends Protocol> protocolClass = protocols.get(i).getClass();
+            final byte[] table = tables.get(protocolClass);
+            if (table == null) {
+                continue;
+            }
+
+            if (composed == null) {
+                firstProtocol = protocolClass;
+                composed = table.clone();
+            } else {
+                for (int color = 0; color < composed.length; color++) {
+                    composed[color] = table[composed[color] & 0xFF];
+                }
+            }
+        }
+        return firstProtocol != null ? new MapColorPath(firstProtocol, MapColorRewriter.isIdentity(composed) ? null : composed) : null;
+    }
+
+    /**
+     * Returns the protocol closest to the server rewriting map colors, which applies the composed table.
+     *
+     * @return protocol applying the composed table
+     */
+    public Class<? extends Protocol> firstProtocol() {
+        return firstProtocol;
+    }
+
+    /**
+     * Returns the composed color table, or null if no colors have to be changed.
+     *
+     * @return composed color table, or null if identity
+     */
+    public byte @Nullable [] table() {
+        return table;
+    }
+}
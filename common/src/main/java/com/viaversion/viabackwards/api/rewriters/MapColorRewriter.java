@@ -17,12 +17,20 @@
  */
 package com.viaversion.viabackwards.api.rewriters;
 
+import com.viaversion.viaversion.api.connection.UserConnection;
+import com.viaversion.viaversion.api.protocol.Protocol;
+import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
 import com.viaversion.viaversion.api.protocol.remapper.PacketHandler;
 import com.viaversion.viaversion.api.type.Type;
 import com.viaversion.viaversion.rewriter.IdRewriteFunction;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 public final class MapColorRewriter {
 
+    private static final Map<Class<? extends Protocol>, byte[]> TABLES = new ConcurrentHashMap<>();
+
     /**
      * Returns a packethandler to rewrite map data color ids. Reading starts from the icon count.
      *
@@ -30,30 +38,125 @@ public final class MapColorRewriter {
      * @return packethandler to rewrite map data color ids
      */
     public static PacketHandler getRewriteHandler(IdRewriteFunction rewriter) {
+        final byte[] table = createTable(rewriter);
         return wrapper -> {
-            int iconCount = wrapper.passthrough(Type.VAR_INT);
-            for (int i = 0; i < iconCount; i++) {
-                wrapper.passthrough(Type.VAR_INT); // Type
-                wrapper.passthrough(Type.BYTE); // X
-                wrapper.passthrough(Type.BYTE); // Z
-                wrapper.passthrough(Type.BYTE); // Direction
-                wrapper.passthrough(Type.OPTIONAL_COMPONENT); // Display Name
+            passthroughIcons(wrapper);
+            final byte[] data = passthroughColors(wrapper);
+            if (data != null) {
+                applyTable(table, data);
             }
+        };
+    }
 
-            short columns = wrapper.passthrough(Type.UNSIGNED_BYTE);
-            if (columns < 1) return;
-
-            wrapper.passthrough(Type.UNSIGNED_BYTE); // Rows
-            wrapper.passthrough(Type.UNSIGNED_BYTE); // X
-            wrapper.passthrough(Type.UNSIGNED_BYTE); // Z
-            byte[] data = wrapper.passthrough(Type.BYTE_ARRAY_PRIMITIVE);
-            for (int i = 0; i < data.length; i++) {
-                int color = data[i] & 0xFF;
-                int mappedColor = rewriter.rewrite(color);
-                if (mappedColor != -1) {
-                    data[i] = (byte) mappedColor;
-                }
-            }
+    /**
+     * Returns a packethandler to rewrite map data color ids. Reading starts from the icon count.
+     * <p>
+     * The rewrites of all protocols registered this way are composed per connection and applied at once by the
+     * first of these protocols in the connection's pipeline, the others leave the colors untouched.
+     *
+     * @param protocol protocol class the handler is registered in
+     * @param rewriter id rewriter returning mapped colors, or -1 if unmapped
+     * @return packethandler to rewrite map data color ids
+     */
+    public static PacketHandler getRewriteHandler(Class<? extends Protocol> protocol, IdRewriteFunction rewriter) {
+        registerTable(protocol, rewriter);
+        return wrapper -> {
+            passthroughIcons(wrapper);
+            rewriteColors(wrapper, protocol);
         };
     }
+
+    /**
+     * Registers the color rewrites of the given protocol to be composed with the ones of other protocols.
+     *
+     * @param protocol protocol class
+     * @param rewriter id rewriter returning mapped colors, or -1 if unmapped
+     */
+    public static void registerTable(Class<? extends Protocol> protocol, IdRewriteFunction rewriter) {
+        TABLES.put(protocol, createTable(rewriter));
+    }
+
+    /**
+     * Rewrites the map data colors with the composed table if the given protocol is the first one to handle them.
+     * Reading starts from the columns.
+     *
+     * @param wrapper  packet wrapper
+     * @param protocol protocol class the colors are handled in, registered with {@link #registerTable(Class, IdRewriteFunction)}
+     * @throws Exception if reading or writing fails
+     */
+    public static void rewriteColors(PacketWrapper wrapper, Class<? extends Protocol> protocol) throws Exception {
+        final byte[] data = passthroughColors(wrapper);
+        if (data != null) {
+            rewriteColors(wrapper.user(), protocol, data);
+        }
+    }
+
+    /**
+     * Rewrites the given map data colors with the composed table if the given protocol is the first one to handle them.
+     *
+     * @param user     user connection
+     * @param protocol protocol class the colors are handled in, registered with {@link #registerTable(Class, IdRewriteFunction)}
+     * @param data     map data colors
+     */
+    public static void rewriteColors(UserConnection user, Class<? extends Protocol> protocol, byte[] data) {
+        MapColorPath path = user.get(MapColorPath.class);
+        if (path == null) {
+            path = MapColorPath.create(user, TABLES);
+            if (path == null) {
+                return;
+            }
+            user.put(path);
+        }
+
+        // Already rewritten by a protocol closer to the server
+        final byte[] table = path.table();
+        if (path.firstProtocol() == protocol && table != null) {
+            applyTable(table, data);
+        }
+    }
+
+    static boolean isIdentity(byte[] table) {
+        for (int color = 0; color < table.length; color++) {
+            if (table[color] != (byte) color) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void passthroughIcons(PacketWrapper wrapper) throws Exception {
+        int iconCount = wrapper.passthrough(Type.VAR_INT);
+        for (int i = 0; i < iconCount; i++) {
+            wrapper.passthrough(Type.VAR_INT); // Type
+            wrapper.passthrough(Type.BYTE); // X
+            wrapper.passthrough(Type.BYTE); // Z
+            wrapper.passthrough(Type.BYTE); // Direction
+            wrapper.passthrough(Type.OPTIONAL_COMPONENT); // Display Name
+        }
+    }
+
+    private static byte @Nullable [] passthroughColors(PacketWrapper wrapper) throws Exception {
+        short columns = wrapper.passthrough(Type.UNSIGNED_BYTE);
+        if (columns < 1) return null;
+
+        wrapper.passthrough(Type.UNSIGNED_BYTE); // Rows
+        wrapper.passthrough(Type.UNSIGNED_BYTE); // X
+        wrapper.passthrough(Type.UNSIGNED_BYTE); // Z
+        return wrapper.passthrough(Type.BYTE_ARRAY_PRIMITIVE);
+    }
+
+    private static byte[] createTable(IdRewriteFunction rewriter) {
+        final byte[] table = new byte[256];
+        for (int color = 0; color < table.length; color++) {
+            final int mappedColor = rewriter.rewrite(color);
+            table[color] = (byte) (mappedColor != -1 ? mappedColor : color);
+        }
+        return table;
+    }
+
+    private static void applyTable(byte[] table, byte[] data) {
+        for (int i = 0; i < data.length; i++) {
+            data[i] = table[data[i] & 0xFF];
+        }
+    }
 }
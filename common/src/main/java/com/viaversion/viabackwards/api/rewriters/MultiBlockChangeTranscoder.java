@@ -0,0 +1,214 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.api.rewriters;
+
+import com.viaversion.viabackwards.api.BackwardsProtocol;
+import com.viaversion.viaversion.api.connection.UserConnection;
+import com.viaversion.viaversion.api.minecraft.BlockChangeRecord;
+import com.viaversion.viaversion.api.protocol.Protocol;
+import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
+import com.viaversion.viaversion.api.type.Type;
+import io.netty.buffer.ByteBuf;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Transcodes multi block change records as packed longs instead of record objects.
+ * <p>
+ * Records are packed with the block id in the upper and the 1.8 position short (x, z and absolute y) in the lower
+ * 16 bits. They can only be used if no protocol closer to the client reads the records again, see {@link #isLastHandler(UserConnection, Protocol)}.
+ */
+public final class MultiBlockChangeTranscoder {
+
+    /**
+     * Multi block change records in the 1.8 format, from and to packed longs.
+     */
+    public static final Type<long[]> PACKED_RECORDS = new PackedRecordsType();
+    /**
+     * Multi block change records in the 1.16.2 var long format, read to packed longs with section relative y.
+     */
+    public static final Type<long[]> PACKED_VAR_LONG_RECORDS = new PackedVarLongRecordsType();
+    private static final Set<Class<? extends Protocol>> HANDLERS = ConcurrentHashMap.newKeySet();
+
+    private MultiBlockChangeTranscoder() {
+    }
+
+    /**
+     * Marks the protocol as reading multi block change records.
+     *
+     * @param protocol protocol class
+     */
+    public static void registerHandler(final Class<? extends Protocol> protocol) {
+        HANDLERS.add(protocol);
+    }
+
+    /**
+     * Returns whether no protocol after the given one reads the multi block change records again,
+     * so that they can be written in their packed form.
+     *
+     * @param user     user connection
+     * @param protocol protocol currently handling the packet
+     * @return true if the records may be written packed
+     */
+    public static boolean isLastHandler(final UserConnection user, final Protocol protocol) {
+        // Clientbound packets go through the pipeline in reverse order, so check everything in front of the protocol
+        final List<Protocol> protocols = user.getProtocolInfo().getPipeline().pipes();
+        for (final Protocol pipe : protocols) {
+            if (pipe == protocol) {
+                return true;
+            }
+            if (pipe.isBaseProtocol()) {
+                continue;
+            }
+            // Protocols of other platforms might read the records as well
+            if (!(pipe instanceof BackwardsProtocol) || HANDLERS.contains(pipe.getClass())) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads 1.8 multi block change records into packed longs, either from the buffer or from records read
+     * by a previous protocol.
+     *
+     * @param wrapper packet wrapper
+     * @return packed records
+     * @throws Exception if reading fails
+     */
+    public static long[] readRecords(final PacketWrapper wrapper) throws Exception {
+        if (!wrapper.isReadable(Type.BLOCK_CHANGE_RECORD_ARRAY, 0)) {
+            return wrapper.read(PACKED_RECORDS);
+        }
+
+        final BlockChangeRecord[] records = wrapper.read(Type.BLOCK_CHANGE_RECORD_ARRAY);
+        final long[] packed = new long[records.length];
+        for (int i = 0; i < records.length; i++) {
+            final BlockChangeRecord record = records[i];
+            packed[i] = pack(record.getSectionX(), record.getY(), record.getSectionZ(), record.getBlockId());
+        }
+        return packed;
+    }
+
+    /**
+     * Reads 1.16.2 multi block change records into packed longs with absolute y, either from the buffer or from
+     * records read by a previous protocol.
+     *
+     * @param wrapper packet wrapper
+     * @param chunkY  chunk section y
+     * @return packed records
+     * @throws Exception if reading fails
+     */
+    public static long[] readVarLongRecords(final PacketWrapper wrapper, final int chunkY) throws Exception {
+        if (!wrapper.isReadable(Type.VAR_LONG_BLOCK_CHANGE_RECORD_ARRAY, 0)) {
+            final long[] packed = wrapper.read(PACKED_VAR_LONG_RECORDS);
+            final int yOffset = chunkY << 4;
+            for (int i = 0; i < packed.length; i++) {
+                // Relative y -> absolute y
+                packed[i] = packed[i] & ~0xFFL | (y(packed[i]) + yOffset) & 0xFF;
+            }
+            return packed;
+        }
+
+        final BlockChangeRecord[] records = wrapper.read(Type.VAR_LONG_BLOCK_CHANGE_RECORD_ARRAY);
+        final long[] packed = new long[records.length];
+        for (int i = 0; i < records.length; i++) {
+            final BlockChangeRecord record = records[i];
+            packed[i] = pack(record.getSectionX(), record.getY(chunkY), record.getSectionZ(), record.getBlockId());
+        }
+        return packed;
+    }
+
+    public static long pack(final int sectionX, final int y, final int sectionZ, final int blockId) {
+        return (long) blockId << 16 | (sectionX & 0xF) << 12 | (sectionZ & 0xF) << 8 | y & 0xFF;
+    }
+
+    public static int sectionX(final long record) {
+        return (int) (record >> 12) & 0xF;
+    }
+
+    public static int y(final long record) {
+        return (int) record & 0xFF;
+    }
+
+    public static int sectionZ(final long record) {
+        return (int) (record >> 8) & 0xF;
+    }
+
+    public static int blockId(final long record) {
+        return (int) (record >>> 16);
+    }
+
+    public static long withBlockId(final long record, final int blockId) {
+        return (long) blockId << 16 | record & 0xFFFF;
+    }
+
+    private static final class PackedRecordsType extends Type<long[]> {
+
+        private PackedRecordsType() {
+            super("Packed BlockChangeRecord Array", long[].class);
+        }
+
+        @Override
+        public long[] read(final ByteBuf buffer) throws Exception {
+            final long[] records = new long[Type.VAR_INT.readPrimitive(buffer)];
+            for (int i = 0; i < records.length; i++) {
+                final int position = buffer.readUnsignedShort();
+                records[i] = (long) Type.VAR_INT.readPrimitive(buffer) << 16 | position;
+            }
+            return records;
+        }
+
+        @Override
+        public void write(final ByteBuf buffer, final long[] records) throws Exception {
+            Type.VAR_INT.writePrimitive(buffer, records.length);
+            for (final long record : records) {
+                buffer.writeShort((int) record & 0xFFFF);
+                Type.VAR_INT.writePrimitive(buffer, blockId(record));
+            }
+        }
+    }
+
+    private static final class PackedVarLongRecordsType extends Type<long[]> {
+
+        private PackedVarLongRecordsType() {
+            super("Packed VarLongBlockChangeRecord Array", long[].class);
+        }
+
+        @Override
+        public long[] read(final ByteBuf buffer) throws Exception {
+            final long[] records = new long[Type.VAR_INT.readPrimitive(buffer)];
+            for (int i = 0; i < records.length; i++) {
+                final long data = Type.VAR_LONG.readPrimitive(buffer);
+                final int position = (int) data & 0xFFF;
+                records[i] = pack(position >>> 8, position & 0xF, position >>> 4 & 0xF, (int) (data >>> 12));
+            }
+            return records;
+        }
+
+        @Override
+        public void write(final ByteBuf buffer, final long[] records) throws Exception {
+            Type.VAR_INT.writePrimitive(buffer, records.length);
+            for (final long record : records) {
+                final int position = sectionX(record) << 8 | sectionZ(record) << 4 | y(record) & 0xF;
+                Type.VAR_LONG.writePrimitive(buffer, (long) blockId(record) << 12 | position);
+            }
+        }
+    }
+}
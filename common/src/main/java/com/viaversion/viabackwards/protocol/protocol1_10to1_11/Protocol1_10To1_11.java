@@ -20,15 +20,16 @@ package com.viaversion.viabackwards.protocol.protocol1_10to1_11;
 
 import com.viaversion.viabackwards.api.BackwardsProtocol;
 import com.viaversion.viabackwards.api.data.BackwardsMappings;
+import com.viaversion.viabackwards.api.entities.storage.BackwardsEntityTracker;
 import com.viaversion.viabackwards.api.rewriters.SoundRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_10to1_11.packets.BlockItemPackets1_11;
 import com.viaversion.viabackwards.protocol.protocol1_10to1_11.packets.EntityPackets1_11;
 import com.viaversion.viabackwards.protocol.protocol1_10to1_11.packets.PlayerPackets1_11;
+import com.viaversion.viabackwards.protocol.protocol1_10to1_11.storage.ChestedHorseStorage;
 import com.viaversion.viabackwards.protocol.protocol1_10to1_11.storage.WindowTracker;
 import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.minecraft.ClientWorld;
 import com.viaversion.viaversion.api.minecraft.entities.EntityTypes1_11;
-import com.viaversion.viaversion.data.entity.EntityTrackerBase;
 import com.viaversion.viaversion.protocols.protocol1_9_3to1_9_1_2.ClientboundPackets1_9_3;
 import com.viaversion.viaversion.protocols.protocol1_9_3to1_9_1_2.ServerboundPackets1_9_3;
 
@@ -44,6 +45,8 @@ public class Protocol1_10To1_11 extends BackwardsProtocol<ClientboundPackets1_9_
 
     @Override
     protected void registerPackets() {
+        BackwardsEntityTracker.registerStorageSize(ChestedHorseStorage.class, 24);
+
         blockItemPackets.register();
         entityPackets.register();
         PlayerPackets1_11.register(this);
@@ -59,7 +62,7 @@ public class Protocol1_10To1_11 extends BackwardsProtocol<ClientboundPackets1_9_
             user.put(new ClientWorld());
         }
 
-        user.addEntityTracker(this.getClass(), new EntityTrackerBase(user, EntityTypes1_11.EntityType.PLAYER));
+        user.addEntityTracker(this.getClass(), new BackwardsEntityTracker(user, EntityTypes1_11.EntityType.PLAYER));
 
         if (!user.has(WindowTracker.class)) {
             user.put(new WindowTracker());
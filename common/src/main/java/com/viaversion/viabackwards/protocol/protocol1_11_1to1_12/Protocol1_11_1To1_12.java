@@ -20,6 +20,8 @@ package com.viaversion.viabackwards.protocol.protocol1_11_1to1_12;
 
 import com.viaversion.viabackwards.api.BackwardsProtocol;
 import com.viaversion.viabackwards.api.data.BackwardsMappings;
+import com.viaversion.viabackwards.api.entities.storage.BackwardsEntityTracker;
+import com.viaversion.viabackwards.protocol.protocol1_11_1to1_12.data.ParrotStorage;
 import com.viaversion.viabackwards.protocol.protocol1_11_1to1_12.data.ShoulderTracker;
 import com.viaversion.viabackwards.protocol.protocol1_11_1to1_12.packets.BlockItemPackets1_12;
 import com.viaversion.viabackwards.protocol.protocol1_11_1to1_12.packets.ChatPackets1_12;
@@ -29,7 +31,6 @@ import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.minecraft.ClientWorld;
 import com.viaversion.viaversion.api.minecraft.entities.EntityTypes1_12;
 import com.viaversion.viaversion.api.type.Type;
-import com.viaversion.viaversion.data.entity.EntityTrackerBase;
 import com.viaversion.viaversion.libs.gson.JsonElement;
 import com.viaversion.viaversion.protocols.protocol1_12to1_11_1.ClientboundPackets1_12;
 import com.viaversion.viaversion.protocols.protocol1_12to1_11_1.ServerboundPackets1_12;
@@ -49,6 +50,8 @@ public class Protocol1_11_1To1_12 extends BackwardsProtocol<ClientboundPackets1_
 
     @Override
     protected void registerPackets() {
+        BackwardsEntityTracker.registerStorageSize(ParrotStorage.class, 16);
+
         blockItemPackets.register();
         entityPackets.register();
         new SoundPackets1_12(this).register();
@@ -73,7 +76,7 @@ public class Protocol1_11_1To1_12 extends BackwardsProtocol<ClientboundPackets1_
             user.put(new ClientWorld());
         }
 
-        user.addEntityTracker(this.getClass(), new EntityTrackerBase(user, EntityTypes1_12.EntityType.PLAYER));
+        user.addEntityTracker(this.getClass(), new BackwardsEntityTracker(user, EntityTypes1_12.EntityType.PLAYER));
 
         user.put(new ShoulderTracker(user));
     }
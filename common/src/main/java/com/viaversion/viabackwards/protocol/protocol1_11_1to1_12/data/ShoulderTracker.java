@@ -20,6 +20,7 @@ package com.viaversion.viabackwards.protocol.protocol1_11_1to1_12.data;
 
 import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.protocol.protocol1_11_1to1_12.Protocol1_11_1To1_12;
+import com.viaversion.viabackwards.utils.PacketBatch;
 import com.viaversion.viaversion.api.connection.StoredObject;
 import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
@@ -48,7 +49,7 @@ public class ShoulderTracker extends StoredObject {
         wrapper.write(Type.BYTE, (byte) 2);
 
         try {
-            wrapper.scheduleSend(Protocol1_11_1To1_12.class);
+            PacketBatch.scheduleSend(wrapper, Protocol1_11_1To1_12.class);
         } catch (Exception e) {
             ViaBackwards.getPlatform().getLogger().severe("Failed to send the shoulder indication");
             e.printStackTrace();
@@ -19,6 +19,7 @@
 package com.viaversion.viabackwards.protocol.protocol1_11_1to1_12.packets;
 
 import com.viaversion.viabackwards.api.rewriters.LegacyBlockItemRewriter;
+import com.viaversion.viabackwards.api.rewriters.MapColorRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_11_1to1_12.Protocol1_11_1To1_12;
 import com.viaversion.viabackwards.protocol.protocol1_11_1to1_12.data.MapColorMapping;
 import com.viaversion.viaversion.api.connection.UserConnection;
@@ -52,6 +53,7 @@ public class BlockItemPackets1_12 extends LegacyBlockItemRewriter<ClientboundPac
         registerBlockChange(ClientboundPackets1_12.BLOCK_CHANGE);
         registerMultiBlockChange(ClientboundPackets1_12.MULTI_BLOCK_CHANGE);
 
+        MapColorRewriter.registerTable(Protocol1_11_1To1_12.class, color -> color > 143 ? MapColorMapping.getNearestOldColor(color) : -1);
         protocol.registerClientbound(ClientboundPackets1_12.MAP_DATA, new PacketHandlers() {
             @Override
             public void register() {
@@ -64,23 +66,7 @@ public class BlockItemPackets1_12 extends LegacyBlockItemRewriter<ClientboundPac
                         wrapper.passthrough(Type.BYTE);
                     }
                 });
-                handler(wrapper -> {
-                    short columns = wrapper.passthrough(Type.UNSIGNED_BYTE);
-                    if (columns <= 0) return;
-
-                    wrapper.passthrough(Type.UNSIGNED_BYTE); // Rows
-                    wrapper.passthrough(Type.UNSIGNED_BYTE); // X
-                    wrapper.passthrough(Type.UNSIGNED_BYTE); // Z
-                    byte[] data = wrapper.read(Type.BYTE_ARRAY_PRIMITIVE);
-                    for (int i = 0; i < data.length; i++) {
-                        short color = (short) (data[i] & 0xFF);
-                        if (color > 143) {
-                            color = (short) MapColorMapping.getNearestOldColor(color);
-                            data[i] = (byte) color;
-                        }
-                    }
-                    wrapper.write(Type.BYTE_ARRAY_PRIMITIVE, data);
-                });
+                handler(wrapper -> MapColorRewriter.rewriteColors(wrapper, Protocol1_11_1To1_12.class));
             }
         });
 
@@ -22,6 +22,7 @@ import com.google.common.primitives.Ints;
 import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.api.rewriters.BackwardsItemRewriter;
 import com.viaversion.viabackwards.api.rewriters.EnchantmentRewriter;
+import com.viaversion.viabackwards.api.rewriters.MultiBlockChangeTranscoder;
 import com.viaversion.viabackwards.protocol.protocol1_12_2to1_13.Protocol1_12_2To1_13;
 import com.viaversion.viabackwards.protocol.protocol1_12_2to1_13.block_entity_handlers.FlowerPotHandler;
 import com.viaversion.viabackwards.protocol.protocol1_12_2to1_13.providers.BackwardsBlockEntityProvider;
@@ -181,8 +182,12 @@ public class BlockItemPackets1_13 extends BackwardsItemRewriter<ClientboundPacke
         });
 
         protocol.registerClientbound(ClientboundPackets1_13.UNLOAD_CHUNK, wrapper -> {
-            int chunkMinX = wrapper.passthrough(Type.INT) << 4;
-            int chunkMinZ = wrapper.passthrough(Type.INT) << 4;
+            int chunkX = wrapper.passthrough(Type.INT);
+            int chunkZ = wrapper.passthrough(Type.INT);
+            wrapper.user().get(NoteBlockStorage.class).unloadChunk(chunkX, chunkZ);
+
+            int chunkMinX = chunkX << 4;
+            int chunkMinZ = chunkZ << 4;
             int chunkMaxX = chunkMinX + 15;
             int chunkMaxZ = chunkMinZ + 15;
             BackwardsBlockStorage blockStorage = wrapper.user().get(BackwardsBlockStorage.class);
@@ -221,29 +226,40 @@ public class BlockItemPackets1_13 extends BackwardsItemRewriter<ClientboundPacke
         });
 
         // Multi Block Change
+        MultiBlockChangeTranscoder.registerHandler(protocol.getClass());
         protocol.registerClientbound(ClientboundPackets1_13.MULTI_BLOCK_CHANGE, new PacketHandlers() {
             @Override
             public void register() {
                 map(Type.INT); // 0 - Chunk X
                 map(Type.INT); // 1 - Chunk Z
-                map(Type.BLOCK_CHANGE_RECORD_ARRAY);
                 handler(wrapper -> {
                     BackwardsBlockStorage storage = wrapper.user().get(BackwardsBlockStorage.class);
+                    int chunkX = wrapper.get(Type.INT, 0);
+                    int chunkZ = wrapper.get(Type.INT, 1);
+
+                    if (MultiBlockChangeTranscoder.isLastHandler(wrapper.user(), protocol)) {
+                        long[] records = MultiBlockChangeTranscoder.readRecords(wrapper);
+                        for (int i = 0; i < records.length; i++) {
+                            long record = records[i];
+                            int block = MultiBlockChangeTranscoder.blockId(record);
+                            Position position = new Position(
+                                MultiBlockChangeTranscoder.sectionX(record) + (chunkX * 16),
+                                MultiBlockChangeTranscoder.y(record),
+                                MultiBlockChangeTranscoder.sectionZ(record) + (chunkZ * 16));
+                            handleMultiBlockChange(wrapper.user(), storage, position, block);
+                            records[i] = MultiBlockChangeTranscoder.withBlockId(record, protocol.getMappingData().getNewBlockStateId(block));
+                        }
+                        wrapper.write(MultiBlockChangeTranscoder.PACKED_RECORDS, records);
+                        return;
+                    }
 
-                    for (BlockChangeRecord record : wrapper.get(Type.BLOCK_CHANGE_RECORD_ARRAY, 0)) {
-                        int chunkX = wrapper.get(Type.INT, 0);
-                        int chunkZ = wrapper.get(Type.INT, 1);
+                    for (BlockChangeRecord record : wrapper.passthrough(Type.BLOCK_CHANGE_RECORD_ARRAY)) {
                         int block = record.getBlockId();
                         Position position = new Position(
                             record.getSectionX() + (chunkX * 16),
                             record.getY(),
                             record.getSectionZ() + (chunkZ * 16));
-
-                        // Store if needed
-                        storage.checkAndStore(position, block);
-
-                        // Flower pot special treatment
-                        flowerPotSpecialTreatment(wrapper.user(), block, position);
+                        handleMultiBlockChange(wrapper.user(), storage, position, block);
 
                         // Change to old id
                         record.setBlockId(protocol.getMappingData().getNewBlockStateId(block));
@@ -977,6 +993,14 @@ public class BlockItemPackets1_13 extends BackwardsItemRewriter<ClientboundPacke
         }
     }
 
+    private static void handleMultiBlockChange(UserConnection user, BackwardsBlockStorage storage, Position position, int blockState) throws Exception {
+        // Store if needed
+        storage.checkAndStore(position, blockState);
+
+        // Flower pot special treatment
+        flowerPotSpecialTreatment(user, blockState, position);
+    }
+
     // TODO find a less hacky way to do this (https://bugs.mojang.com/browse/MC-74231)
     private static void flowerPotSpecialTreatment(UserConnection user, int blockState, Position position) throws Exception {
         if (FlowerPotHandler.isFlowah(blockState)) {
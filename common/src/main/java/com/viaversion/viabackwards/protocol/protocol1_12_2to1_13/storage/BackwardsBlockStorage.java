@@ -18,7 +18,8 @@
 
 package com.viaversion.viabackwards.protocol.protocol1_12_2to1_13.storage;
 
-import com.viaversion.viaversion.api.connection.StorableObject;
+import com.viaversion.viabackwards.api.footprint.FootprintReport;
+import com.viaversion.viabackwards.api.footprint.StorageFootprint;
 import com.viaversion.viaversion.api.minecraft.Position;
 import com.viaversion.viaversion.libs.fastutil.ints.IntOpenHashSet;
 import com.viaversion.viaversion.libs.fastutil.ints.IntSet;
@@ -26,7 +27,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-public class BackwardsBlockStorage implements StorableObject {
+public class BackwardsBlockStorage implements StorageFootprint {
     // This BlockStorage is very exclusive (;
     private static final IntSet WHITELIST = new IntOpenHashSet(779);
 
@@ -64,6 +65,8 @@ public class BackwardsBlockStorage implements StorableObject {
         for (int i = 1099; i <= 1110; i++) {
             WHITELIST.add(i);
         }
+
+        FootprintReport.register(BackwardsBlockStorage.class);
     }
 
     private final Map<Position, Integer> blocks = new ConcurrentHashMap<>();
@@ -93,4 +96,14 @@ public class BackwardsBlockStorage implements StorableObject {
     public Map<Position, Integer> getBlocks() {
         return blocks;
     }
+
+    @Override
+    public int footprintEntries() {
+        return blocks.size();
+    }
+
+    @Override
+    public long footprintBytes() {
+        return blocks.size() * 88L; // Map node, position and boxed block id
+    }
 }
@@ -17,34 +17,146 @@
  */
 package com.viaversion.viabackwards.protocol.protocol1_12_2to1_13.storage;
 
-import com.viaversion.viaversion.api.connection.StorableObject;
+import com.viaversion.viabackwards.api.footprint.FootprintReport;
+import com.viaversion.viabackwards.api.footprint.StorageFootprint;
 import com.viaversion.viaversion.api.minecraft.Position;
-import com.viaversion.viaversion.libs.fastutil.objects.Object2IntMap;
-import com.viaversion.viaversion.libs.fastutil.objects.Object2IntOpenHashMap;
+import com.viaversion.viaversion.libs.fastutil.ints.Int2IntMap;
+import com.viaversion.viaversion.libs.fastutil.ints.Int2IntOpenHashMap;
+import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectMap;
+import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectOpenHashMap;
+import com.viaversion.viaversion.libs.fastutil.objects.ObjectIterator;
 import com.viaversion.viaversion.util.Pair;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
-public class NoteBlockStorage implements StorableObject {
+/**
+ * Note block states sent in block changes, used to fill in the note of the following block action.
+ * Entries are grouped by chunk so they can be dropped together with it, and their total number is capped.
+ */
+public class NoteBlockStorage implements StorageFootprint {
+
+    static {
+        FootprintReport.register(NoteBlockStorage.class);
+    }
 
     private static final int MAX_NOTE_ID = 24;
+    private static final int MAX_NOTE_BLOCKS = 4096;
 
-    private final Object2IntMap<Position> noteBlockUpdates = new Object2IntOpenHashMap<>();
+    // Keyed by the lower 16 bits of the chunk coordinates, entries keep their full chunk coordinates to tell colliding chunks apart
+    private final Int2ObjectMap<ChunkNoteBlocks> chunks = new Int2ObjectOpenHashMap<>();
+    private int size;
 
     public void storeNoteBlockUpdate(final Position position, final int blockStateId) {
-        noteBlockUpdates.put(position, blockStateId);
+        final int chunkX = position.x() >> 4;
+        final int chunkZ = position.z() >> 4;
+        final int chunkKey = chunkKey(chunkX, chunkZ);
+        ChunkNoteBlocks chunk = chunks.get(chunkKey);
+        if (chunk == null || !chunk.is(chunkX, chunkZ)) {
+            if (chunk != null) {
+                size -= chunk.blockStates.size(); // Replace the colliding chunk
+            }
+            chunk = new ChunkNoteBlocks(chunkX, chunkZ);
+            chunks.put(chunkKey, chunk);
+        }
+
+        final Int2IntMap noteBlocks = chunk.blockStates;
+        if (noteBlocks.put(pack(position), blockStateId) != -1) {
+            return; // Replaced the state of a stored note block
+        }
+
+        if (++size > MAX_NOTE_BLOCKS) {
+            evictOtherChunks(chunkKey);
+            if (size > MAX_NOTE_BLOCKS) {
+                // A single chunk full of note blocks, start over with it
+                size -= noteBlocks.size() - 1;
+                noteBlocks.clear();
+                noteBlocks.put(pack(position), blockStateId);
+            }
+        }
     }
 
-    public Pair<Integer, Integer> getNoteBlockUpdate(final Position position) {
-        if (!noteBlockUpdates.containsKey(position)) {
+    public @Nullable Pair<Integer, Integer> getNoteBlockUpdate(final Position position) {
+        final int chunkX = position.x() >> 4;
+        final int chunkZ = position.z() >> 4;
+        final int chunkKey = chunkKey(chunkX, chunkZ);
+        final ChunkNoteBlocks chunk = chunks.get(chunkKey);
+        if (chunk == null || !chunk.is(chunkX, chunkZ)) {
             return null;
         }
-        int relativeBlockState = noteBlockUpdates.removeInt(position) - 249;
+
+        final Int2IntMap noteBlocks = chunk.blockStates;
+        final int blockState = noteBlocks.remove(pack(position));
+        if (blockState == -1) {
+            return null;
+        }
+
+        size--;
+        if (noteBlocks.isEmpty()) {
+            chunks.remove(chunkKey);
+        }
+
+        int relativeBlockState = blockState - 249;
         relativeBlockState = relativeBlockState / 2; // Get rid of powered state
 
         return new Pair<>(relativeBlockState / MAX_NOTE_ID + 1, relativeBlockState % MAX_NOTE_ID + 1);
     }
 
+    public void unloadChunk(final int chunkX, final int chunkZ) {
+        final int chunkKey = chunkKey(chunkX, chunkZ);
+        final ChunkNoteBlocks chunk = chunks.get(chunkKey);
+        if (chunk != null && chunk.is(chunkX, chunkZ)) {
+            chunks.remove(chunkKey);
+            size -= chunk.blockStates.size();
+        }
+    }
+
     public void clear() {
-        noteBlockUpdates.clear();
+        chunks.clear();
+        size = 0;
     }
 
+    private void evictOtherChunks(final int chunkKey) {
+        final ObjectIterator<Int2ObjectMap.Entry<ChunkNoteBlocks>> iterator = chunks.int2ObjectEntrySet().iterator();
+        while (size > MAX_NOTE_BLOCKS && iterator.hasNext()) {
+            final Int2ObjectMap.Entry<ChunkNoteBlocks> entry = iterator.next();
+            if (entry.getIntKey() != chunkKey) {
+                size -= entry.getValue().blockStates.size();
+                iterator.remove();
+            }
+        }
+    }
+
+    private static int chunkKey(final int chunkX, final int chunkZ) {
+        return (chunkX & 0xFFFF) << 16 | chunkZ & 0xFFFF;
+    }
+
+    private static int pack(final Position position) {
+        // Position within the chunk
+        return (position.y() & 0xFFF) << 8 | (position.z() & 15) << 4 | position.x() & 15;
+    }
+
+    @Override
+    public int footprintEntries() {
+        return size;
+    }
+
+    @Override
+    public long footprintBytes() {
+        return chunks.size() * 112L + size * 16L; // Chunk entries and their maps, packed positions and states with load factor
+    }
+
+    private static final class ChunkNoteBlocks {
+        private final Int2IntMap blockStates = new Int2IntOpenHashMap();
+        private final int chunkX;
+        private final int chunkZ;
+
+        private ChunkNoteBlocks(final int chunkX, final int chunkZ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            blockStates.defaultReturnValue(-1);
+        }
+
+        private boolean is(final int chunkX, final int chunkZ) {
+            return this.chunkX == chunkX && this.chunkZ == chunkZ;
+        }
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.protocol.protocol1_12_2to1_13.storage;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Case-insensitive sorted index of strings, returning all values starting with a given prefix in O(log n + k).
+ */
+public final class PrefixIndex {
+
+    // Keyed by the lowercase value followed by the original value, so that values only differing in case are kept apart
+    private final NavigableMap<String, Entry> entries = new TreeMap<>();
+
+    public void add(final String value) {
+        final Entry entry = entries.computeIfAbsent(key(value), key -> new Entry(value));
+        entry.count++;
+    }
+
+    public void remove(final String value) {
+        final String key = key(value);
+        final Entry entry = entries.get(key);
+        if (entry != null && --entry.count == 0) {
+            entries.remove(key);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Adds all values starting with the given prefix, ignoring case, in alphabetical order.
+     *
+     * @param prefix      prefix
+     * @param suggestions collection to add the matching values to
+     */
+    public void collect(final String prefix, final Collection<String> suggestions) {
+        final String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
+        for (final Map.Entry<String, Entry> entry : entries.tailMap(lowerPrefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(lowerPrefix)) {
+                break;
+            }
+            suggestions.add(entry.getValue().value);
+        }
+    }
+
+    private static String key(final String value) {
+        return value.toLowerCase(Locale.ROOT) + '\0' + value;
+    }
+
+    private static final class Entry {
+        private final String value;
+        private int count;
+
+        private Entry(final String value) {
+            this.value = value;
+        }
+    }
+}
@@ -17,26 +17,59 @@
  */
 package com.viaversion.viabackwards.protocol.protocol1_12_2to1_13.storage;
 
-import com.viaversion.viaversion.api.connection.StorableObject;
+import com.viaversion.viabackwards.api.footprint.FootprintReport;
+import com.viaversion.viabackwards.api.footprint.StorageFootprint;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 
-public class TabCompleteStorage implements StorableObject {
+public class TabCompleteStorage implements StorageFootprint {
+
+    static {
+        FootprintReport.register(TabCompleteStorage.class);
+    }
+
     private final Map<UUID, String> usernames = new HashMap<>();
-    private final Set<String> commands = new HashSet<>();
+    private final PrefixIndex usernameIndex = new PrefixIndex();
+    private final PrefixIndex commands = new PrefixIndex();
     private int lastId;
     private String lastRequest;
     private boolean lastAssumeCommand;
 
-    public Map<UUID, String> usernames() {
-        return usernames;
+    public void addUsername(final UUID uuid, final String name) {
+        final String previousName = usernames.put(uuid, name);
+        if (previousName != null) {
+            usernameIndex.remove(previousName);
+        }
+        usernameIndex.add(name);
+    }
+
+    public void removeUsername(final UUID uuid) {
+        final String name = usernames.remove(uuid);
+        if (name != null) {
+            usernameIndex.remove(name);
+        }
+    }
+
+    public void completeUsername(final String prefix, final Collection<String> suggestions) {
+        usernameIndex.collect(prefix, suggestions);
+    }
+
+    public void addCommand(final String command) {
+        commands.add(command);
     }
 
-    public Set<String> commands() {
-        return commands;
+    public void clearCommands() {
+        commands.clear();
+    }
+
+    public boolean hasCommands() {
+        return !commands.isEmpty();
+    }
+
+    public void completeCommand(final String prefix, final Collection<String> suggestions) {
+        commands.collect(prefix, suggestions);
     }
 
     public int lastId() {
@@ -62,4 +95,15 @@ public class TabCompleteStorage implements StorableObject {
     public void setLastAssumeCommand(boolean lastAssumeCommand) {
         this.lastAssumeCommand = lastAssumeCommand;
     }
+
+    @Override
+    public int footprintEntries() {
+        return usernames.size() + commands.size();
+    }
+
+    @Override
+    public long footprintBytes() {
+        // Map entries and uuids, and index entries with their lowercase keys; names are short
+        return usernames.size() * 240L + commands.size() * 160L;
+    }
 }
@@ -19,6 +19,7 @@ package com.viaversion.viabackwards.protocol.protocol1_13_2to1_14;
 
 import com.viaversion.viabackwards.api.BackwardsProtocol;
 import com.viaversion.viabackwards.api.data.BackwardsMappings;
+import com.viaversion.viabackwards.api.entities.storage.BackwardsEntityTracker;
 import com.viaversion.viabackwards.api.rewriters.TranslatableRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.data.CommandRewriter1_14;
 import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.packets.BlockItemPackets1_14;
@@ -27,11 +28,11 @@ import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.packets.PlayerP
 import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.packets.SoundPackets1_14;
 import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.storage.ChunkLightStorage;
 import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.storage.DifficultyStorage;
+import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.storage.EntityPositionStorage1_14;
 import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.minecraft.ClientWorld;
 import com.viaversion.viaversion.api.minecraft.entities.EntityTypes1_14;
 import com.viaversion.viaversion.api.type.Type;
-import com.viaversion.viaversion.data.entity.EntityTrackerBase;
 import com.viaversion.viaversion.protocols.protocol1_13to1_12_2.ClientboundPackets1_13;
 import com.viaversion.viaversion.protocols.protocol1_13to1_12_2.ServerboundPackets1_13;
 import com.viaversion.viaversion.protocols.protocol1_14to1_13_2.ClientboundPackets1_14;
@@ -54,6 +55,7 @@ public class Protocol1_13_2To1_14 extends BackwardsProtocol<ClientboundPackets1_
     @Override
     protected void registerPackets() {
         super.registerPackets();
+        BackwardsEntityTracker.registerStorageSize(EntityPositionStorage1_14.class, 40);
 
         translatableRewriter.registerBossBar(ClientboundPackets1_14.BOSSBAR);
         translatableRewriter.registerComponentPacket(ClientboundPackets1_14.CHAT_MESSAGE);
@@ -166,7 +168,7 @@ public class Protocol1_13_2To1_14 extends BackwardsProtocol<ClientboundPackets1_
             user.put(new ClientWorld());
         }
 
-        user.addEntityTracker(this.getClass(), new EntityTrackerBase(user, EntityTypes1_14.PLAYER));
+        user.addEntityTracker(this.getClass(), new BackwardsEntityTracker(user, EntityTypes1_14.PLAYER));
 
         if (!user.has(ChunkLightStorage.class)) {
             user.put(new ChunkLightStorage());
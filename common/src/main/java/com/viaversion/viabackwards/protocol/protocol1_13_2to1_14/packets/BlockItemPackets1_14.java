@@ -21,6 +21,7 @@ import com.google.common.collect.ImmutableSet;
 import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.api.rewriters.BackwardsItemRewriter;
 import com.viaversion.viabackwards.api.rewriters.EnchantmentRewriter;
+import com.viaversion.viabackwards.api.rewriters.MultiBlockChangeTranscoder;
 import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.Protocol1_13_2To1_14;
 import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.storage.ChunkLightStorage;
 import com.viaversion.viaversion.api.Via;
@@ -344,6 +345,7 @@ public class BlockItemPackets1_14 extends BackwardsItemRewriter<ClientboundPacke
             }
         });
 
+        MultiBlockChangeTranscoder.registerHandler(protocol.getClass());
         blockRewriter.registerMultiBlockChange(ClientboundPackets1_14.MULTI_BLOCK_CHANGE);
 
         protocol.registerClientbound(ClientboundPackets1_14.EXPLOSION, new PacketHandlers() {
@@ -18,9 +18,12 @@
 package com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.packets;
 
 import com.viaversion.viabackwards.ViaBackwards;
+import com.viaversion.viabackwards.api.diagnostics.DiagnosticCause;
+import com.viaversion.viabackwards.api.diagnostics.Diagnostics;
 import com.viaversion.viabackwards.api.rewriters.SoundRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.Protocol1_13_2To1_14;
 import com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.storage.EntityPositionStorage1_14;
+import com.viaversion.viaversion.api.Via;
 import com.viaversion.viaversion.api.data.entity.StoredEntityData;
 import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
 import com.viaversion.viaversion.api.rewriter.RewriterBase;
@@ -55,7 +58,10 @@ public class SoundPackets1_14 extends RewriterBase<Protocol1_13_2To1_14> {
             StoredEntityData storedEntity = wrapper.user().getEntityTracker(protocol.getClass()).entityData(entityId);
             EntityPositionStorage1_14 entityStorage;
             if (storedEntity == null || (entityStorage = storedEntity.get(EntityPositionStorage1_14.class)) == null) {
-                ViaBackwards.getPlatform().getLogger().warning("Untracked entity with id " + entityId);
+                Diagnostics.record(wrapper.user(), DiagnosticCause.UNTRACKED_ENTITY_SOUND);
+                if (Via.getManager().isDebug()) {
+                    ViaBackwards.getPlatform().getLogger().warning("Untracked entity with id " + entityId);
+                }
                 return;
             }
 
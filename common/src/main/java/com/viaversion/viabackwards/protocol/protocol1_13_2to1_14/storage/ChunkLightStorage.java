@@ -17,23 +17,26 @@
  */
 package com.viaversion.viabackwards.protocol.protocol1_13_2to1_14.storage;
 
-import com.viaversion.viaversion.api.connection.StorableObject;
+import com.viaversion.viabackwards.api.footprint.FootprintReport;
+import com.viaversion.viabackwards.api.footprint.StorageFootprint;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
-public class ChunkLightStorage implements StorableObject {
+public class ChunkLightStorage implements StorageFootprint {
     public static final byte[] FULL_LIGHT = new byte[2048];
     public static final byte[] EMPTY_LIGHT = new byte[2048];
     private static Constructor<?> fastUtilLongObjectHashMap;
 
     private final Map<Long, ChunkLight> storedLight = createLongObjectMap();
+    private long storedBytes;
 
     static {
         Arrays.fill(FULL_LIGHT, (byte) 0xFF);
         Arrays.fill(EMPTY_LIGHT, (byte) 0x0);
+        FootprintReport.register(ChunkLightStorage.class);
         try {
             fastUtilLongObjectHashMap = Class.forName("it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap").getConstructor();
         } catch (ClassNotFoundException | NoSuchMethodException ignored) {
@@ -41,7 +44,12 @@ public class ChunkLightStorage implements StorableObject {
     }
 
     public void setStoredLight(byte[][] skyLight, byte[][] blockLight, int x, int z) {
-        storedLight.put(getChunkSectionIndex(x, z), new ChunkLight(skyLight, blockLight));
+        ChunkLight light = new ChunkLight(skyLight, blockLight);
+        storedBytes += light.estimatedBytes();
+        ChunkLight previous = storedLight.put(getChunkSectionIndex(x, z), light);
+        if (previous != null) {
+            storedBytes -= previous.estimatedBytes();
+        }
     }
 
     public ChunkLight getStoredLight(int x, int z) {
@@ -50,10 +58,14 @@ public class ChunkLightStorage implements StorableObject {
 
     public void clear() {
         storedLight.clear();
+        storedBytes = 0;
     }
 
     public void unloadChunk(int x, int z) {
-        storedLight.remove(getChunkSectionIndex(x, z));
+        ChunkLight light = storedLight.remove(getChunkSectionIndex(x, z));
+        if (light != null) {
+            storedBytes -= light.estimatedBytes();
+        }
     }
 
     private long getChunkSectionIndex(int x, int z) {
@@ -87,5 +99,34 @@ public class ChunkLightStorage implements StorableObject {
         public byte[][] blockLight() {
             return blockLight;
         }
+
+        private long estimatedBytes() {
+            return 64 + estimatedBytes(skyLight) + estimatedBytes(blockLight);
+        }
+
+        private static long estimatedBytes(byte[][] light) {
+            if (light == null) {
+                return 0;
+            }
+
+            long bytes = 16 + light.length * 8L;
+            for (byte[] section : light) {
+                // The full and empty arrays are shared between all chunks
+                if (section != null && section != FULL_LIGHT && section != EMPTY_LIGHT) {
+                    bytes += 16 + section.length;
+                }
+            }
+            return bytes;
+        }
+    }
+
+    @Override
+    public int footprintEntries() {
+        return storedLight.size();
+    }
+
+    @Override
+    public long footprintBytes() {
+        return storedBytes;
     }
 }
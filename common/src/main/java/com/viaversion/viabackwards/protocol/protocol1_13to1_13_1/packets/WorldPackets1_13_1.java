@@ -17,6 +17,7 @@
  */
 package com.viaversion.viabackwards.protocol.protocol1_13to1_13_1.packets;
 
+import com.viaversion.viabackwards.api.rewriters.MultiBlockChangeTranscoder;
 import com.viaversion.viabackwards.protocol.protocol1_13to1_13_1.Protocol1_13To1_13_1;
 import com.viaversion.viaversion.api.minecraft.BlockFace;
 import com.viaversion.viaversion.api.minecraft.ClientWorld;
@@ -55,6 +56,7 @@ public class WorldPackets1_13_1 {
 
         blockRewriter.registerBlockAction(ClientboundPackets1_13.BLOCK_ACTION);
         blockRewriter.registerBlockChange(ClientboundPackets1_13.BLOCK_CHANGE);
+        MultiBlockChangeTranscoder.registerHandler(protocol.getClass());
         blockRewriter.registerMultiBlockChange(ClientboundPackets1_13.MULTI_BLOCK_CHANGE);
         protocol.registerClientbound(ClientboundPackets1_13.EFFECT, new PacketHandlers() {
             @Override
@@ -18,6 +18,7 @@
 package com.viaversion.viabackwards.protocol.protocol1_14_4to1_15.packets;
 
 import com.viaversion.viabackwards.api.rewriters.BackwardsItemRewriter;
+import com.viaversion.viabackwards.api.rewriters.MultiBlockChangeTranscoder;
 import com.viaversion.viabackwards.protocol.protocol1_14_4to1_15.Protocol1_14_4To1_15;
 import com.viaversion.viaversion.api.minecraft.chunks.Chunk;
 import com.viaversion.viaversion.api.minecraft.chunks.ChunkSection;
@@ -59,6 +60,7 @@ public class BlockItemPackets1_15 extends BackwardsItemRewriter<ClientboundPacke
         blockRewriter.registerAcknowledgePlayerDigging(ClientboundPackets1_15.ACKNOWLEDGE_PLAYER_DIGGING);
         blockRewriter.registerBlockAction(ClientboundPackets1_15.BLOCK_ACTION);
         blockRewriter.registerBlockChange(ClientboundPackets1_15.BLOCK_CHANGE);
+        MultiBlockChangeTranscoder.registerHandler(protocol.getClass());
         blockRewriter.registerMultiBlockChange(ClientboundPackets1_15.MULTI_BLOCK_CHANGE);
 
         protocol.registerClientbound(ClientboundPackets1_15.CHUNK_DATA, wrapper -> {
@@ -21,6 +21,7 @@ import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.api.rewriters.BackwardsItemRewriter;
 import com.viaversion.viabackwards.api.rewriters.EnchantmentRewriter;
 import com.viaversion.viabackwards.api.rewriters.MapColorRewriter;
+import com.viaversion.viabackwards.api.rewriters.MultiBlockChangeTranscoder;
 import com.viaversion.viabackwards.protocol.protocol1_15_2to1_16.Protocol1_15_2To1_16;
 import com.viaversion.viabackwards.protocol.protocol1_15_2to1_16.data.MapColorRewrites;
 import com.viaversion.viabackwards.protocol.protocol1_16_1to1_16_2.storage.BiomeStorage;
@@ -104,6 +105,7 @@ public class BlockItemPackets1_16 extends BackwardsItemRewriter<ClientboundPacke
         blockRewriter.registerAcknowledgePlayerDigging(ClientboundPackets1_16.ACKNOWLEDGE_PLAYER_DIGGING);
         blockRewriter.registerBlockAction(ClientboundPackets1_16.BLOCK_ACTION);
         blockRewriter.registerBlockChange(ClientboundPackets1_16.BLOCK_CHANGE);
+        MultiBlockChangeTranscoder.registerHandler(protocol.getClass());
         blockRewriter.registerMultiBlockChange(ClientboundPackets1_16.MULTI_BLOCK_CHANGE);
 
         protocol.registerClientbound(ClientboundPackets1_16.ENTITY_EQUIPMENT, wrapper -> {
@@ -175,14 +177,21 @@ public class BlockItemPackets1_16 extends BackwardsItemRewriter<ClientboundPacke
             if (chunk.isBiomeData()) {
                 if (wrapper.user().getProtocolInfo().serverProtocolVersion().newerThanOrEqualTo(ProtocolVersion.v1_16_2)) {
                     BiomeStorage biomeStorage = wrapper.user().get(BiomeStorage.class);
-                    for (int i = 0; i < 1024; i++) {
-                        int biome = chunk.getBiomeData()[i];
-                        int legacyBiome = biomeStorage.legacyBiome(biome);
-                        if (legacyBiome == -1) {
-                            ViaBackwards.getPlatform().getLogger().warning("Biome sent that does not exist in the biome registry: " + biome);
-                            legacyBiome = 1;
+                    int[] biomeData = chunk.getBiomeData();
+                    // Biomes mostly come in long runs, only look up changes
+                    int lastBiome = -1;
+                    int lastLegacyBiome = -1;
+                    for (int i = 0; i < biomeData.length; i++) {
+                        int biome = biomeData[i];
+                        if (biome != lastBiome || i == 0) {
+                            lastBiome = biome;
+                            lastLegacyBiome = biomeStorage.legacyBiome(biome);
+                            if (lastLegacyBiome == -1) {
+                                ViaBackwards.getPlatform().getLogger().warning("Biome sent that does not exist in the biome registry: " + biome);
+                                lastLegacyBiome = 1;
+                            }
                         }
-                        chunk.getBiomeData()[i] = legacyBiome;
+                        biomeData[i] = lastLegacyBiome;
                     }
                 } else {
                     for (int i = 0; i < 1024; i++) {
@@ -236,7 +245,7 @@ public class BlockItemPackets1_16 extends BackwardsItemRewriter<ClientboundPacke
                 map(Type.BYTE); // Scale
                 map(Type.BOOLEAN); // Tracking Position
                 map(Type.BOOLEAN); // Locked
-                handler(MapColorRewriter.getRewriteHandler(MapColorRewrites::getMappedColor));
+                handler(MapColorRewriter.getRewriteHandler(Protocol1_15_2To1_16.class, MapColorRewrites::getMappedColor));
             }
         });
 
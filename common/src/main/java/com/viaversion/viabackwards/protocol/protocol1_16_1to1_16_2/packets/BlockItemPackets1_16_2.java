@@ -18,6 +18,7 @@
 package com.viaversion.viabackwards.protocol.protocol1_16_1to1_16_2.packets;
 
 import com.viaversion.viabackwards.api.rewriters.BackwardsItemRewriter;
+import com.viaversion.viabackwards.api.rewriters.MultiBlockChangeTranscoder;
 import com.viaversion.viabackwards.protocol.protocol1_16_1to1_16_2.Protocol1_16_1To1_16_2;
 import com.viaversion.viaversion.api.minecraft.BlockChangeRecord;
 import com.viaversion.viaversion.api.minecraft.BlockChangeRecord1_8;
@@ -33,6 +34,7 @@ import com.viaversion.viaversion.libs.opennbt.tag.builtin.CompoundTag;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.IntArrayTag;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.ListTag;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.StringTag;
+import com.viaversion.viaversion.libs.opennbt.tag.builtin.Tag;
 import com.viaversion.viaversion.protocols.protocol1_16_2to1_16_1.ClientboundPackets1_16_2;
 import com.viaversion.viaversion.protocols.protocol1_16to1_15_2.ServerboundPackets1_16;
 import com.viaversion.viaversion.rewriter.BlockRewriter;
@@ -108,6 +110,7 @@ public class BlockItemPackets1_16_2 extends BackwardsItemRewriter<ClientboundPac
             }
         });
 
+        MultiBlockChangeTranscoder.registerHandler(protocol.getClass());
         protocol.registerClientbound(ClientboundPackets1_16_2.MULTI_BLOCK_CHANGE, wrapper -> {
             long chunkPosition = wrapper.read(Type.LONG);
             wrapper.read(Type.BOOLEAN); // Ignore old light data
@@ -118,6 +121,17 @@ public class BlockItemPackets1_16_2 extends BackwardsItemRewriter<ClientboundPac
             wrapper.write(Type.INT, chunkX);
             wrapper.write(Type.INT, chunkZ);
 
+            if (MultiBlockChangeTranscoder.isLastHandler(wrapper.user(), protocol)) {
+                long[] records = MultiBlockChangeTranscoder.readVarLongRecords(wrapper, chunkY);
+                for (int i = 0; i < records.length; i++) {
+                    long record = records[i];
+                    int blockId = protocol.getMappingData().getNewBlockStateId(MultiBlockChangeTranscoder.blockId(record));
+                    records[i] = MultiBlockChangeTranscoder.withBlockId(record, blockId);
+                }
+                wrapper.write(MultiBlockChangeTranscoder.PACKED_RECORDS, records);
+                return;
+            }
+
             BlockChangeRecord[] blockChangeRecord = wrapper.read(Type.VAR_LONG_BLOCK_CHANGE_RECORD_ARRAY);
             wrapper.write(Type.BLOCK_CHANGE_RECORD_ARRAY, blockChangeRecord);
             for (int i = 0; i < blockChangeRecord.length; i++) {
@@ -145,7 +159,8 @@ public class BlockItemPackets1_16_2 extends BackwardsItemRewriter<ClientboundPac
             CompoundTag skullOwnerTag = tag.getCompoundTag("SkullOwner");
             if (skullOwnerTag == null) return;
 
-            if (!skullOwnerTag.contains("Id")) return;
+            Tag idTag = skullOwnerTag.get("Id");
+            if (idTag == null) return;
 
             CompoundTag properties = skullOwnerTag.getCompoundTag("Properties");
             if (properties == null) return;
@@ -156,8 +171,21 @@ public class BlockItemPackets1_16_2 extends BackwardsItemRewriter<ClientboundPac
             CompoundTag first = !textures.isEmpty() ? textures.get(0) : null;
             if (first == null) return;
 
+            StringTag valueTag = first.getStringTag("Value");
+            if (valueTag == null) return;
+
             // Make the client cache the skinprofile over this uuid
-            int hashCode = first.get("Value").getValue().hashCode();
+            int hashCode = valueTag.getValue().hashCode();
+            if (idTag instanceof IntArrayTag && ((IntArrayTag) idTag).getValue().length == 4) {
+                // Freshly read from the packet, so it can be reused instead of replaced
+                int[] uuidIntArray = ((IntArrayTag) idTag).getValue();
+                uuidIntArray[0] = hashCode;
+                uuidIntArray[1] = 0;
+                uuidIntArray[2] = 0;
+                uuidIntArray[3] = 0;
+                return;
+            }
+
             int[] uuidIntArray = {hashCode, 0, 0, 0}; //TODO split texture in 4 for a lower collision chance
             skullOwnerTag.put("Id", new IntArrayTag(uuidIntArray));
         }
@@ -17,28 +17,43 @@
  */
 package com.viaversion.viabackwards.protocol.protocol1_16_1to1_16_2.storage;
 
+import com.viaversion.viabackwards.api.footprint.FootprintReport;
+import com.viaversion.viabackwards.api.footprint.StorageFootprint;
 import com.viaversion.viabackwards.protocol.protocol1_16_1to1_16_2.data.BiomeMappings;
-import com.viaversion.viaversion.api.connection.StorableObject;
-import com.viaversion.viaversion.libs.fastutil.ints.Int2IntMap;
-import com.viaversion.viaversion.libs.fastutil.ints.Int2IntOpenHashMap;
+import java.util.Arrays;
 
-public final class BiomeStorage implements StorableObject {
+public final class BiomeStorage implements StorageFootprint {
 
-    private final Int2IntMap modernToLegacyBiomes = new Int2IntOpenHashMap();
-
-    public BiomeStorage() {
-        modernToLegacyBiomes.defaultReturnValue(-1);
+    static {
+        FootprintReport.register(BiomeStorage.class);
     }
 
+    private int[] modernToLegacyBiomes = new int[0];
+
     public void addBiome(final String biome, final int id) {
-        modernToLegacyBiomes.put(id, BiomeMappings.toLegacyBiome(biome));
+        if (id >= modernToLegacyBiomes.length) {
+            final int oldLength = modernToLegacyBiomes.length;
+            modernToLegacyBiomes = Arrays.copyOf(modernToLegacyBiomes, Math.max(id + 1, oldLength * 2));
+            Arrays.fill(modernToLegacyBiomes, oldLength, modernToLegacyBiomes.length, -1);
+        }
+        modernToLegacyBiomes[id] = BiomeMappings.toLegacyBiome(biome);
     }
 
     public int legacyBiome(final int biome) {
-        return modernToLegacyBiomes.get(biome);
+        return biome >= 0 && biome < modernToLegacyBiomes.length ? modernToLegacyBiomes[biome] : -1;
     }
 
     public void clear() {
-        modernToLegacyBiomes.clear();
+        modernToLegacyBiomes = new int[0];
+    }
+
+    @Override
+    public int footprintEntries() {
+        return modernToLegacyBiomes.length;
+    }
+
+    @Override
+    public long footprintBytes() {
+        return 16 + modernToLegacyBiomes.length * 4L;
     }
 }
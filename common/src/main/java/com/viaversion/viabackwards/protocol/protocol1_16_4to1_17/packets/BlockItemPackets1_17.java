@@ -20,10 +20,13 @@ package com.viaversion.viabackwards.protocol.protocol1_16_4to1_17.packets;
 import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.api.rewriters.BackwardsItemRewriter;
 import com.viaversion.viabackwards.api.rewriters.MapColorRewriter;
+import com.viaversion.viabackwards.api.rewriters.MultiBlockChangeTranscoder;
 import com.viaversion.viabackwards.protocol.protocol1_16_4to1_17.Protocol1_16_4To1_17;
 import com.viaversion.viabackwards.protocol.protocol1_16_4to1_17.data.MapColorRewrites;
 import com.viaversion.viabackwards.protocol.protocol1_16_4to1_17.storage.PingRequests;
 import com.viaversion.viabackwards.protocol.protocol1_16_4to1_17.storage.PlayerLastCursorItem;
+import com.viaversion.viabackwards.utils.ChunkTypes;
+import com.viaversion.viabackwards.utils.CompactArrays;
 import com.viaversion.viaversion.api.data.entity.EntityTracker;
 import com.viaversion.viaversion.api.minecraft.BlockChangeRecord;
 import com.viaversion.viaversion.api.minecraft.chunks.Chunk;
@@ -32,10 +35,10 @@ import com.viaversion.viaversion.api.minecraft.chunks.DataPalette;
 import com.viaversion.viaversion.api.minecraft.chunks.PaletteType;
 import com.viaversion.viaversion.api.minecraft.item.Item;
 import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
+import com.viaversion.viaversion.api.protocol.remapper.PacketHandler;
 import com.viaversion.viaversion.api.protocol.remapper.PacketHandlers;
 import com.viaversion.viaversion.api.type.Type;
 import com.viaversion.viaversion.api.type.types.chunk.ChunkType1_16_2;
-import com.viaversion.viaversion.api.type.types.chunk.ChunkType1_17;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.CompoundTag;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.LongArrayTag;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.NumberTag;
@@ -46,7 +49,6 @@ import com.viaversion.viaversion.protocols.protocol1_17to1_16_4.ClientboundPacke
 import com.viaversion.viaversion.protocols.protocol1_17to1_16_4.ServerboundPackets1_17;
 import com.viaversion.viaversion.rewriter.BlockRewriter;
 import com.viaversion.viaversion.rewriter.RecipeRewriter;
-import com.viaversion.viaversion.util.CompactArrayUtil;
 import com.viaversion.viaversion.util.MathUtil;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -281,6 +283,7 @@ public final class BlockItemPackets1_17 extends BackwardsItemRewriter<Clientboun
             }
         });
 
+        MultiBlockChangeTranscoder.registerHandler(protocol.getClass());
         protocol.registerClientbound(ClientboundPackets1_17.MULTI_BLOCK_CHANGE, new PacketHandlers() {
             @Override
             public void register() {
@@ -324,7 +327,7 @@ public final class BlockItemPackets1_17 extends BackwardsItemRewriter<Clientboun
             EntityTracker tracker = wrapper.user().getEntityTracker(Protocol1_16_4To1_17.class);
             int currentWorldSectionHeight = tracker.currentWorldSectionHeight();
 
-            Chunk chunk = wrapper.read(new ChunkType1_17(currentWorldSectionHeight));
+            Chunk chunk = wrapper.read(ChunkTypes.chunkType1_17(currentWorldSectionHeight));
             wrapper.write(ChunkType1_16_2.TYPE, chunk);
 
             // Cut sections
@@ -338,13 +341,11 @@ public final class BlockItemPackets1_17 extends BackwardsItemRewriter<Clientboun
             chunk.setSections(sections);
 
             CompoundTag heightMaps = chunk.getHeightMap();
+            int bitsPerEntry = MathUtil.ceilLog2((currentWorldSectionHeight << 4) + 1);
             for (Tag heightMapTag : heightMaps.values()) {
                 LongArrayTag heightMap = (LongArrayTag) heightMapTag;
-                int[] heightMapData = new int[256];
-                int bitsPerEntry = MathUtil.ceilLog2((currentWorldSectionHeight << 4) + 1);
                 // Shift back to 0 based and clamp to normal height with 9 bits
-                CompactArrayUtil.iterateCompactArrayWithPadding(bitsPerEntry, heightMapData.length, heightMap.getValue(), (i, v) -> heightMapData[i] = MathUtil.clamp(v + tracker.currentMinY(), 0, 255));
-                heightMap.setValue(CompactArrayUtil.createCompactArrayWithPadding(9, heightMapData.length, i -> heightMapData[i]));
+                heightMap.setValue(CompactArrays.repackWithPadding(heightMap.getValue(), bitsPerEntry, 9, 256, tracker.currentMinY(), 0, 255));
             }
 
             for (int i = 0; i < 16; i++) {
@@ -393,12 +394,14 @@ public final class BlockItemPackets1_17 extends BackwardsItemRewriter<Clientboun
                 map(Type.BYTE); // Scale
                 handler(wrapper -> wrapper.write(Type.BOOLEAN, true)); // Tracking position
                 map(Type.BOOLEAN); // Locked
+                PacketHandler colorRewriteHandler = MapColorRewriter.getRewriteHandler(Protocol1_16_4To1_17.class, MapColorRewrites::getMappedColor);
                 handler(wrapper -> {
                     boolean hasMarkers = wrapper.read(Type.BOOLEAN);
                     if (!hasMarkers) {
                         wrapper.write(Type.VAR_INT, 0); // Array size
+                        MapColorRewriter.rewriteColors(wrapper, Protocol1_16_4To1_17.class);
                     } else {
-                        MapColorRewriter.getRewriteHandler(MapColorRewrites::getMappedColor).handle(wrapper);
+                        colorRewriteHandler.handle(wrapper);
                     }
                 });
             }
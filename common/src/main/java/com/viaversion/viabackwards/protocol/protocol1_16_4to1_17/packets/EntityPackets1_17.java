@@ -20,6 +20,7 @@ package com.viaversion.viabackwards.protocol.protocol1_16_4to1_17.packets;
 import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.api.rewriters.EntityRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_16_4to1_17.Protocol1_16_4To1_17;
+import com.viaversion.viabackwards.utils.RegistryCache;
 import com.viaversion.viaversion.api.minecraft.Particle;
 import com.viaversion.viaversion.api.minecraft.entities.EntityType;
 import com.viaversion.viaversion.api.minecraft.entities.EntityTypes1_16_2;
@@ -81,20 +82,22 @@ public final class EntityPackets1_17 extends EntityRewriter<ClientboundPackets1_
                 handler(worldDataTrackerHandler(1));
                 handler(wrapper -> {
                     CompoundTag registry = wrapper.get(Type.NAMED_COMPOUND_TAG, 0);
-                    ListTag<CompoundTag> biomes = TagUtil.getRegistryEntries(registry, "worldgen/biome");
-                    for (CompoundTag biome : biomes) {
-                        CompoundTag biomeCompound = biome.getCompoundTag("element");
-                        StringTag category = biomeCompound.getStringTag("category");
-                        if (category.getValue().equalsIgnoreCase("underground")) {
-                            category.setValue("none");
+                    wrapper.set(Type.NAMED_COMPOUND_TAG, 0, RegistryCache.convert(Protocol1_16_4To1_17.class, registry, tag -> {
+                        ListTag<CompoundTag> biomes = TagUtil.getRegistryEntries(tag, "worldgen/biome");
+                        for (CompoundTag biome : biomes) {
+                            CompoundTag biomeCompound = biome.getCompoundTag("element");
+                            StringTag category = biomeCompound.getStringTag("category");
+                            if (category.getValue().equalsIgnoreCase("underground")) {
+                                category.setValue("none");
+                            }
                         }
-                    }
 
-                    ListTag<CompoundTag> dimensions = TagUtil.getRegistryEntries(registry, "dimension_type");
-                    for (CompoundTag dimension : dimensions) {
-                        CompoundTag dimensionCompound = dimension.getCompoundTag("element");
-                        reduceExtendedHeight(dimensionCompound, false);
-                    }
+                        ListTag<CompoundTag> dimensions = TagUtil.getRegistryEntries(tag, "dimension_type");
+                        for (CompoundTag dimension : dimensions) {
+                            CompoundTag dimensionCompound = dimension.getCompoundTag("element");
+                            reduceExtendedHeight(dimensionCompound, false);
+                        }
+                    }));
 
                     reduceExtendedHeight(wrapper.get(Type.NAMED_COMPOUND_TAG, 1), true);
                 });
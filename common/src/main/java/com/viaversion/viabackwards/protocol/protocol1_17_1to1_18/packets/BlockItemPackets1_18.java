@@ -20,6 +20,9 @@ package com.viaversion.viabackwards.protocol.protocol1_17_1to1_18.packets;
 import com.viaversion.viabackwards.api.rewriters.BackwardsItemRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_17_1to1_18.Protocol1_17_1To1_18;
 import com.viaversion.viabackwards.protocol.protocol1_17_1to1_18.data.BlockEntityIds;
+import com.viaversion.viabackwards.protocol.protocol1_17_1to1_18.storage.ChunkBuffers;
+import com.viaversion.viabackwards.utils.ChunkTypes;
+import com.viaversion.viabackwards.utils.PacketBatch;
 import com.viaversion.viaversion.api.data.ParticleMappings;
 import com.viaversion.viaversion.api.data.entity.EntityTracker;
 import com.viaversion.viaversion.api.minecraft.Position;
@@ -31,8 +34,8 @@ import com.viaversion.viaversion.api.minecraft.chunks.DataPalette;
 import com.viaversion.viaversion.api.minecraft.chunks.PaletteType;
 import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
 import com.viaversion.viaversion.api.protocol.remapper.PacketHandlers;
+import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import com.viaversion.viaversion.api.type.Type;
-import com.viaversion.viaversion.api.type.types.chunk.ChunkType1_17;
 import com.viaversion.viaversion.api.type.types.chunk.ChunkType1_18;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.CompoundTag;
 import com.viaversion.viaversion.protocols.protocol1_17_1to1_17.ClientboundPackets1_17_1;
@@ -42,11 +45,14 @@ import com.viaversion.viaversion.rewriter.RecipeRewriter;
 import com.viaversion.viaversion.util.Key;
 import com.viaversion.viaversion.util.MathUtil;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.List;
 
 public final class BlockItemPackets1_18 extends BackwardsItemRewriter<ClientboundPackets1_18, ServerboundPackets1_17, Protocol1_17_1To1_18> {
 
+    private final ChunkTypes.Cache<ChunkType1_18> chunkTypes = ChunkTypes.cache(ChunkType1_18::new);
+
     public BlockItemPackets1_18(final Protocol1_17_1To1_18 protocol) {
         super(protocol, Type.ITEM1_13_2, Type.ITEM1_13_2_ARRAY);
     }
@@ -167,21 +173,20 @@ public final class BlockItemPackets1_18 extends BackwardsItemRewriter<Clientboun
 
         protocol.registerClientbound(ClientboundPackets1_18.CHUNK_DATA, wrapper -> {
             final EntityTracker tracker = protocol.getEntityRewriter().tracker(wrapper.user());
-            final ChunkType1_18 chunkType = new ChunkType1_18(tracker.currentWorldSectionHeight(),
+            final ChunkType1_18 chunkType = chunkTypes.get(tracker.currentWorldSectionHeight(),
                 MathUtil.ceilLog2(protocol.getMappingData().getBlockStateMappings().mappedSize()),
                 MathUtil.ceilLog2(tracker.biomesSent()));
             final Chunk oldChunk = wrapper.read(chunkType);
             final ChunkSection[] sections = oldChunk.getSections();
-            final BitSet mask = new BitSet(oldChunk.getSections().length);
-            final int[] biomeData = new int[sections.length * ChunkSection.BIOME_SIZE];
-            int biomeIndex = 0;
+            final ChunkBuffers buffers = wrapper.user().get(ChunkBuffers.class);
+            final BitSet mask = buffers.mask();
+            final int[] biomeData = buffers.biomes(sections.length * ChunkSection.BIOME_SIZE);
+            final int[] paletteIds = buffers.paletteIds();
             for (int j = 0; j < sections.length; j++) {
                 final ChunkSection section = sections[j];
                 // Write biome palette into biome array
                 final DataPalette biomePalette = section.palette(PaletteType.BIOMES);
-                for (int i = 0; i < ChunkSection.BIOME_SIZE; i++) {
-                    biomeData[biomeIndex++] = biomePalette.idAt(i);
-                }
+                writeBiomes(biomePalette, biomeData, j * ChunkSection.BIOME_SIZE, paletteIds);
 
                 // Rewrite to empty section
                 if (section.getNonAirBlocksCount() == 0) {
@@ -216,13 +221,21 @@ public final class BlockItemPackets1_18 extends BackwardsItemRewriter<Clientboun
 
             final Chunk chunk = new BaseChunk(oldChunk.getX(), oldChunk.getZ(), true, false, mask,
                 oldChunk.getSections(), biomeData, oldChunk.getHeightMap(), blockEntityTags);
-            wrapper.write(new ChunkType1_17(tracker.currentWorldSectionHeight()), chunk);
+            wrapper.write(ChunkTypes.chunkType1_17(tracker.currentWorldSectionHeight()), chunk);
 
             // Create and send light packet first
             final PacketWrapper lightPacket = wrapper.create(ClientboundPackets1_17_1.UPDATE_LIGHT);
             lightPacket.write(Type.VAR_INT, chunk.getX());
             lightPacket.write(Type.VAR_INT, chunk.getZ());
+            // Added as a typed value by the 1.20 protocol, so it has to be read as such
             lightPacket.write(Type.BOOLEAN, wrapper.read(Type.BOOLEAN)); // Trust edges
+            if (wrapper.user().getProtocolInfo().protocolVersion().newerThanOrEqualTo(ProtocolVersion.v1_17)) {
+                // The rest is still unread and has the same layout in both packets, later protocols don't rewrite it for these clients
+                lightPacket.write(Type.REMAINING_BYTES, wrapper.read(Type.REMAINING_BYTES));
+                PacketBatch.send(lightPacket, Protocol1_17_1To1_18.class);
+                return;
+            }
+
             lightPacket.write(Type.LONG_ARRAY_PRIMITIVE, wrapper.read(Type.LONG_ARRAY_PRIMITIVE)); // Sky light mask
             lightPacket.write(Type.LONG_ARRAY_PRIMITIVE, wrapper.read(Type.LONG_ARRAY_PRIMITIVE)); // Block light mask
             lightPacket.write(Type.LONG_ARRAY_PRIMITIVE, wrapper.read(Type.LONG_ARRAY_PRIMITIVE)); // Empty sky light mask
@@ -240,12 +253,28 @@ public final class BlockItemPackets1_18 extends BackwardsItemRewriter<Clientboun
                 lightPacket.write(Type.BYTE_ARRAY_PRIMITIVE, wrapper.read(Type.BYTE_ARRAY_PRIMITIVE));
             }
 
-            lightPacket.send(Protocol1_17_1To1_18.class);
+            PacketBatch.send(lightPacket, Protocol1_17_1To1_18.class);
         });
 
         protocol.cancelClientbound(ClientboundPackets1_18.SET_SIMULATION_DISTANCE);
     }
 
+    private static void writeBiomes(final DataPalette palette, final int[] biomeData, final int offset, final int[] paletteIds) {
+        final int paletteSize = palette.size();
+        if (paletteSize == 1) {
+            Arrays.fill(biomeData, offset, offset + ChunkSection.BIOME_SIZE, palette.idByIndex(0));
+            return;
+        }
+
+        // Resolve the palette once instead of looking up every entry
+        for (int i = 0; i < paletteSize; i++) {
+            paletteIds[i] = palette.idByIndex(i);
+        }
+        for (int i = 0; i < ChunkSection.BIOME_SIZE; i++) {
+            biomeData[offset + i] = paletteIds[palette.paletteIndexAt(i)];
+        }
+    }
+
     private void handleSpawner(final int typeId, final CompoundTag tag) {
         if (typeId == 8) {
             final CompoundTag spawnData = tag.getCompoundTag("SpawnData");
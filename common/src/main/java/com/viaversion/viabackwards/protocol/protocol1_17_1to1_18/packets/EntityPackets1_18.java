@@ -19,6 +19,7 @@ package com.viaversion.viabackwards.protocol.protocol1_17_1to1_18.packets;
 
 import com.viaversion.viabackwards.api.rewriters.EntityRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_17_1to1_18.Protocol1_17_1To1_18;
+import com.viaversion.viabackwards.utils.RegistryCache;
 import com.viaversion.viaversion.api.minecraft.Particle;
 import com.viaversion.viaversion.api.minecraft.entities.EntityType;
 import com.viaversion.viaversion.api.minecraft.entities.EntityTypes1_17;
@@ -62,21 +63,24 @@ public final class EntityPackets1_18 extends EntityRewriter<ClientboundPackets1_
                 handler(worldDataTrackerHandler(1));
                 handler(wrapper -> {
                     final CompoundTag registry = wrapper.get(Type.NAMED_COMPOUND_TAG, 0);
-                    final ListTag<CompoundTag> biomes = TagUtil.getRegistryEntries(registry, "worldgen/biome");
-                    for (final CompoundTag biome : biomes) {
-                        final CompoundTag biomeCompound = biome.getCompoundTag("element");
-                        final StringTag category = biomeCompound.getStringTag("category");
-                        if (category.getValue().equals("mountain")) {
-                            category.setValue("extreme_hills");
-                        }
+                    final CompoundTag convertedRegistry = RegistryCache.convert(Protocol1_17_1To1_18.class, registry, tag -> {
+                        final ListTag<CompoundTag> biomes = TagUtil.getRegistryEntries(tag, "worldgen/biome");
+                        for (final CompoundTag biome : biomes) {
+                            final CompoundTag biomeCompound = biome.getCompoundTag("element");
+                            final StringTag category = biomeCompound.getStringTag("category");
+                            if (category.getValue().equals("mountain")) {
+                                category.setValue("extreme_hills");
+                            }
 
-                        // The client just needs something
-                        biomeCompound.putFloat("depth", 0.125F);
-                        biomeCompound.putFloat("scale", 0.05F);
-                    }
+                            // The client just needs something
+                            biomeCompound.putFloat("depth", 0.125F);
+                            biomeCompound.putFloat("scale", 0.05F);
+                        }
+                    });
+                    wrapper.set(Type.NAMED_COMPOUND_TAG, 0, convertedRegistry);
 
                     // Track amount of biomes sent
-                    tracker(wrapper.user()).setBiomesSent(biomes.size());
+                    tracker(wrapper.user()).setBiomesSent(TagUtil.getRegistryEntries(convertedRegistry, "worldgen/biome").size());
                 });
             }
         });
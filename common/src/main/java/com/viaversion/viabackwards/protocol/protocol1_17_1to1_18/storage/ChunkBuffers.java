@@ -0,0 +1,85 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.protocol.protocol1_17_1to1_18.storage;
+
+import com.viaversion.viabackwards.api.footprint.FootprintReport;
+import com.viaversion.viabackwards.api.footprint.StorageFootprint;
+import com.viaversion.viaversion.api.minecraft.chunks.ChunkSection;
+import java.util.BitSet;
+
+/**
+ * Reusable arrays of the chunk currently being translated. A chunk is fully written before the next one
+ * of the same connection is handled, so they can be shared between them.
+ */
+public final class ChunkBuffers implements StorageFootprint {
+
+    static {
+        FootprintReport.register(ChunkBuffers.class);
+    }
+
+    private final int[] paletteIds = new int[ChunkSection.BIOME_SIZE];
+    private final BitSet mask = new BitSet();
+    private int[] biomes = new int[0];
+
+    /**
+     * Returns a biome array of exactly the given length, reusing the previous one if possible.
+     *
+     * @param length length of the biome array
+     * @return biome array, contents are undefined
+     */
+    public int[] biomes(final int length) {
+        if (biomes.length != length) {
+            biomes = new int[length];
+        }
+        return biomes;
+    }
+
+    /**
+     * Returns an array for the palette ids of a single biome section.
+     *
+     * @return palette id array, contents are undefined
+     */
+    public int[] paletteIds() {
+        return paletteIds;
+    }
+
+    /**
+     * Returns an empty section mask.
+     *
+     * @return cleared section mask
+     */
+    public BitSet mask() {
+        mask.clear();
+        return mask;
+    }
+
+    @Override
+    public boolean clearOnServerSwitch() {
+        return false;
+    }
+
+    @Override
+    public int footprintEntries() {
+        return biomes.length;
+    }
+
+    @Override
+    public long footprintBytes() {
+        return 16 + biomes.length * 4L + 16 + paletteIds.length * 4L + 48; // Arrays and mask
+    }
+}
@@ -20,6 +20,7 @@ package com.viaversion.viabackwards.protocol.protocol1_18_2to1_19;
 import com.google.common.primitives.Longs;
 import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.api.BackwardsProtocol;
+import com.viaversion.viabackwards.api.entities.storage.BackwardsEntityTracker;
 import com.viaversion.viabackwards.api.rewriters.SoundRewriter;
 import com.viaversion.viabackwards.api.rewriters.TranslatableRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_18_2to1_19.data.BackwardsMappings;
@@ -28,6 +29,7 @@ import com.viaversion.viabackwards.protocol.protocol1_18_2to1_19.packets.BlockIt
 import com.viaversion.viabackwards.protocol.protocol1_18_2to1_19.packets.EntityPackets1_19;
 import com.viaversion.viabackwards.protocol.protocol1_18_2to1_19.storage.DimensionRegistryStorage;
 import com.viaversion.viabackwards.protocol.protocol1_18_2to1_19.storage.NonceStorage;
+import com.viaversion.viabackwards.protocol.protocol1_18_2to1_19.storage.StoredPainting;
 import com.viaversion.viabackwards.protocol.protocol1_19to1_19_1.Protocol1_19To1_19_1;
 import com.viaversion.viaversion.api.Via;
 import com.viaversion.viaversion.api.connection.UserConnection;
@@ -40,7 +42,6 @@ import com.viaversion.viaversion.api.minecraft.signature.storage.ChatSession1_19
 import com.viaversion.viaversion.api.protocol.packet.State;
 import com.viaversion.viaversion.api.protocol.remapper.PacketHandlers;
 import com.viaversion.viaversion.api.type.Type;
-import com.viaversion.viaversion.data.entity.EntityTrackerBase;
 import com.viaversion.viaversion.libs.gson.JsonElement;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.CompoundTag;
 import com.viaversion.viaversion.protocols.base.ClientboundLoginPackets;
@@ -78,6 +79,7 @@ public final class Protocol1_18_2To1_19 extends BackwardsProtocol<ClientboundPac
     @Override
     protected void registerPackets() {
         super.registerPackets();
+        BackwardsEntityTracker.registerStorageSize(StoredPainting.class, 88);
 
         translatableRewriter.registerComponentPacket(ClientboundPackets1_19.ACTIONBAR);
         translatableRewriter.registerComponentPacket(ClientboundPackets1_19.TITLE_TEXT);
@@ -347,7 +349,7 @@ public final class Protocol1_18_2To1_19 extends BackwardsProtocol<ClientboundPac
     @Override
     public void init(final UserConnection user) {
         user.put(new DimensionRegistryStorage());
-        addEntityTracker(user, new EntityTrackerBase(user, EntityTypes1_19.PLAYER));
+        addEntityTracker(user, new BackwardsEntityTracker(user, EntityTypes1_19.PLAYER));
     }
 
     @Override
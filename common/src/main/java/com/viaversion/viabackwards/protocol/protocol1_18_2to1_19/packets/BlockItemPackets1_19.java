@@ -18,7 +18,9 @@
 package com.viaversion.viabackwards.protocol.protocol1_18_2to1_19.packets;
 
 import com.viaversion.viabackwards.api.rewriters.BackwardsItemRewriter;
+import com.viaversion.viabackwards.api.rewriters.MultiBlockChangeTranscoder;
 import com.viaversion.viabackwards.protocol.protocol1_18_2to1_19.Protocol1_18_2To1_19;
+import com.viaversion.viabackwards.utils.ChunkTypes;
 import com.viaversion.viaversion.api.data.ParticleMappings;
 import com.viaversion.viaversion.api.data.entity.EntityTracker;
 import com.viaversion.viaversion.api.minecraft.chunks.Chunk;
@@ -38,6 +40,8 @@ import com.viaversion.viaversion.util.MathUtil;
 
 public final class BlockItemPackets1_19 extends BackwardsItemRewriter<ClientboundPackets1_19, ServerboundPackets1_17, Protocol1_18_2To1_19> {
 
+    private final ChunkTypes.Cache<ChunkType1_18> chunkTypes = ChunkTypes.cache(ChunkType1_18::new);
+
     public BlockItemPackets1_19(final Protocol1_18_2To1_19 protocol) {
         super(protocol, Type.ITEM1_13_2, Type.ITEM1_13_2_ARRAY);
     }
@@ -57,6 +61,7 @@ public final class BlockItemPackets1_19 extends BackwardsItemRewriter<Clientboun
 
         blockRewriter.registerBlockAction(ClientboundPackets1_19.BLOCK_ACTION);
         blockRewriter.registerBlockChange(ClientboundPackets1_19.BLOCK_CHANGE);
+        MultiBlockChangeTranscoder.registerHandler(protocol.getClass());
         blockRewriter.registerVarLongMultiBlockChange(ClientboundPackets1_19.MULTI_BLOCK_CHANGE);
         blockRewriter.registerEffect(ClientboundPackets1_19.EFFECT, 1010, 2001);
 
@@ -141,7 +146,7 @@ public final class BlockItemPackets1_19 extends BackwardsItemRewriter<Clientboun
 
         protocol.registerClientbound(ClientboundPackets1_19.CHUNK_DATA, wrapper -> {
             final EntityTracker tracker = protocol.getEntityRewriter().tracker(wrapper.user());
-            final ChunkType1_18 chunkType = new ChunkType1_18(tracker.currentWorldSectionHeight(),
+            final ChunkType1_18 chunkType = chunkTypes.get(tracker.currentWorldSectionHeight(),
                 MathUtil.ceilLog2(protocol.getMappingData().getBlockStateMappings().mappedSize()),
                 MathUtil.ceilLog2(tracker.biomesSent()));
             final Chunk chunk = wrapper.passthrough(chunkType);
@@ -21,6 +21,7 @@ import com.viaversion.viabackwards.api.rewriters.EntityRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_18_2to1_19.Protocol1_18_2To1_19;
 import com.viaversion.viabackwards.protocol.protocol1_18_2to1_19.storage.DimensionRegistryStorage;
 import com.viaversion.viabackwards.protocol.protocol1_18_2to1_19.storage.StoredPainting;
+import com.viaversion.viabackwards.utils.RegistryCache;
 import com.viaversion.viaversion.api.data.ParticleMappings;
 import com.viaversion.viaversion.api.data.entity.StoredEntityData;
 import com.viaversion.viaversion.api.minecraft.Particle;
@@ -140,7 +141,7 @@ public final class EntityPackets1_19 extends EntityRewriter<ClientboundPackets1_
                         dimensionRegistryStorage.addDimension(nameTag.getValue(), dimensionData.copy());
 
                         if (!found && Key.stripMinecraftNamespace(nameTag.getValue()).equals(dimensionKey)) {
-                            wrapper.write(Type.NAMED_COMPOUND_TAG, dimensionData);
+                            wrapper.write(Type.NAMED_COMPOUND_TAG, dimensionData.copy());
                             found = true;
                         }
                     }
@@ -148,25 +149,17 @@ public final class EntityPackets1_19 extends EntityRewriter<ClientboundPackets1_
                         throw new IllegalStateException("Could not find dimension " + dimensionKey + " in dimension registry");
                     }
 
-                    // Add biome category and track biomes
-                    final ListTag<CompoundTag> biomes = TagUtil.getRegistryEntries(registry, "worldgen/biome");
-                    for (final CompoundTag biome : biomes) {
-                        final CompoundTag biomeCompound = biome.getCompoundTag("element");
-                        biomeCompound.putString("category", "none");
-                    }
-                    tracker(wrapper.user()).setBiomesSent(biomes.size());
-
-                    // Cache and remove chat types
-                    CompoundTag chatTypeRegistry = (CompoundTag) registry.remove("minecraft:chat_type");
-                    if (chatTypeRegistry == null) {
-                        chatTypeRegistry = (CompoundTag) registry.remove("chat_type");
-                    }
+                    // Track biomes
+                    tracker(wrapper.user()).setBiomesSent(TagUtil.getRegistryEntries(registry, "worldgen/biome").size());
 
-                    final ListTag<CompoundTag> chatTypes = chatTypeRegistry.getListTag("value", CompoundTag.class);
+                    // Cache chat types
+                    final ListTag<CompoundTag> chatTypes = TagUtil.getRegistryEntries(registry, "chat_type");
                     for (final CompoundTag chatType : chatTypes) {
                         final NumberTag idTag = chatType.getNumberTag("id");
                         dimensionRegistryStorage.addChatType(idTag.asInt(), chatType);
                     }
+
+                    wrapper.set(Type.NAMED_COMPOUND_TAG, 0, RegistryCache.convert(Protocol1_18_2To1_19.class, registry, EntityPackets1_19::convertRegistry));
                 });
                 map(Type.STRING); // World
                 map(Type.LONG); // Seed
@@ -327,4 +320,18 @@ public final class EntityPackets1_19 extends EntityRewriter<ClientboundPackets1_
     public EntityType typeFromId(final int typeId) {
         return EntityTypes1_19.getTypeFromId(typeId);
     }
+
+    private static void convertRegistry(final CompoundTag registry) {
+        // Add biome category
+        final ListTag<CompoundTag> biomes = TagUtil.getRegistryEntries(registry, "worldgen/biome");
+        for (final CompoundTag biome : biomes) {
+            final CompoundTag biomeCompound = biome.getCompoundTag("element");
+            biomeCompound.putString("category", "none");
+        }
+
+        // Remove chat types
+        if (registry.remove("minecraft:chat_type") == null) {
+            registry.remove("chat_type");
+        }
+    }
 }
@@ -20,6 +20,7 @@ package com.viaversion.viabackwards.protocol.protocol1_18to1_18_2;
 import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.api.BackwardsProtocol;
 import com.viaversion.viabackwards.protocol.protocol1_18to1_18_2.data.CommandRewriter1_18_2;
+import com.viaversion.viabackwards.utils.RegistryCache;
 import com.viaversion.viaversion.api.Via;
 import com.viaversion.viaversion.api.protocol.remapper.PacketHandler;
 import com.viaversion.viaversion.api.protocol.remapper.PacketHandlers;
@@ -81,10 +82,12 @@ public final class Protocol1_18To1_18_2 extends BackwardsProtocol<ClientboundPac
                 map(Type.NAMED_COMPOUND_TAG); // Current dimension data
                 handler(wrapper -> {
                     final CompoundTag registry = wrapper.get(Type.NAMED_COMPOUND_TAG, 0);
-                    final ListTag<CompoundTag> dimensions = TagUtil.getRegistryEntries(registry, "dimension_type");
-                    for (final CompoundTag dimension : dimensions) {
-                        removeTagPrefix(dimension.getCompoundTag("element"));
-                    }
+                    wrapper.set(Type.NAMED_COMPOUND_TAG, 0, RegistryCache.convert(Protocol1_18To1_18_2.class, registry, tag -> {
+                        final ListTag<CompoundTag> dimensions = TagUtil.getRegistryEntries(tag, "dimension_type");
+                        for (final CompoundTag dimension : dimensions) {
+                            removeTagPrefix(dimension.getCompoundTag("element"));
+                        }
+                    }));
 
                     removeTagPrefix(wrapper.get(Type.NAMED_COMPOUND_TAG, 1));
                 });
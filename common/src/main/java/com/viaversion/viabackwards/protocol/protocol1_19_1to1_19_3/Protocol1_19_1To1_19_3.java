@@ -19,6 +19,7 @@ package com.viaversion.viabackwards.protocol.protocol1_19_1to1_19_3;
 
 import com.google.common.base.Preconditions;
 import com.viaversion.viabackwards.api.BackwardsProtocol;
+import com.viaversion.viabackwards.api.entities.storage.BackwardsEntityTracker;
 import com.viaversion.viabackwards.api.rewriters.SoundRewriter;
 import com.viaversion.viabackwards.api.rewriters.TranslatableRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_19_1to1_19_3.data.BackwardsMappings;
@@ -45,7 +46,6 @@ import com.viaversion.viaversion.api.protocol.remapper.PacketHandlers;
 import com.viaversion.viaversion.api.type.Type;
 import com.viaversion.viaversion.api.type.types.BitSetType;
 import com.viaversion.viaversion.api.type.types.ByteArrayType;
-import com.viaversion.viaversion.data.entity.EntityTrackerBase;
 import com.viaversion.viaversion.libs.gson.JsonElement;
 import com.viaversion.viaversion.protocols.base.ClientboundLoginPackets;
 import com.viaversion.viaversion.protocols.base.ServerboundLoginPackets;
@@ -382,7 +382,7 @@ public final class Protocol1_19_1To1_19_3 extends BackwardsProtocol<ClientboundP
     public void init(final UserConnection user) {
         user.put(new ChatSessionStorage());
         user.put(new ChatTypeStorage1_19_3());
-        addEntityTracker(user, new EntityTrackerBase(user, EntityTypes1_19_3.PLAYER));
+        addEntityTracker(user, new BackwardsEntityTracker(user, EntityTypes1_19_3.PLAYER));
     }
 
     @Override
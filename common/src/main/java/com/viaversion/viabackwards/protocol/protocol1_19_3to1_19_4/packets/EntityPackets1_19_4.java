@@ -20,9 +20,15 @@ package com.viaversion.viabackwards.protocol.protocol1_19_3to1_19_4.packets;
 import com.viaversion.viabackwards.api.entities.storage.EntityData;
 import com.viaversion.viabackwards.api.rewriters.EntityRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_19_3to1_19_4.Protocol1_19_3To1_19_4;
+import com.viaversion.viabackwards.protocol.protocol1_19_3to1_19_4.storage.DisplayEntityStorage;
+import com.viaversion.viabackwards.utils.RegistryCache;
+import com.viaversion.viaversion.api.data.entity.EntityTracker;
+import com.viaversion.viaversion.api.data.entity.TrackedEntity;
 import com.viaversion.viaversion.api.minecraft.entities.EntityType;
 import com.viaversion.viaversion.api.minecraft.entities.EntityTypes1_19_4;
+import com.viaversion.viaversion.api.minecraft.metadata.MetaType;
 import com.viaversion.viaversion.api.minecraft.metadata.Metadata;
+import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
 import com.viaversion.viaversion.api.protocol.remapper.PacketHandlers;
 import com.viaversion.viaversion.api.type.Type;
 import com.viaversion.viaversion.api.type.types.version.Types1_19_3;
@@ -34,6 +40,8 @@ import com.viaversion.viaversion.libs.opennbt.tag.builtin.NumberTag;
 import com.viaversion.viaversion.protocols.protocol1_19_3to1_19_1.ClientboundPackets1_19_3;
 import com.viaversion.viaversion.protocols.protocol1_19_4to1_19_3.ClientboundPackets1_19_4;
 import com.viaversion.viaversion.util.TagUtil;
+import java.util.ArrayList;
+import java.util.List;
 
 public final class EntityPackets1_19_4 extends EntityRewriter<ClientboundPackets1_19_4, Protocol1_19_3To1_19_4> {
 
@@ -44,8 +52,28 @@ public final class EntityPackets1_19_4 extends EntityRewriter<ClientboundPackets
     @Override
     public void registerPackets() {
         registerTrackerWithData1_19(ClientboundPackets1_19_4.SPAWN_ENTITY, EntityTypes1_19_4.FALLING_BLOCK);
-        registerRemoveEntities(ClientboundPackets1_19_4.REMOVE_ENTITIES);
-        registerMetadataRewriter(ClientboundPackets1_19_4.ENTITY_METADATA, Types1_19_4.METADATA_LIST, Types1_19_3.METADATA_LIST);
+        protocol.registerClientbound(ClientboundPackets1_19_4.REMOVE_ENTITIES, wrapper -> {
+            final int[] entityIds = wrapper.passthrough(Type.VAR_INT_ARRAY_PRIMITIVE);
+            final EntityTracker tracker = tracker(wrapper.user());
+            final DisplayEntityStorage displayEntityStorage = wrapper.user().get(DisplayEntityStorage.class);
+            for (final int entityId : entityIds) {
+                tracker.removeEntity(entityId);
+                displayEntityStorage.remove(entityId);
+            }
+        });
+
+        protocol.registerClientbound(ClientboundPackets1_19_4.ENTITY_METADATA, wrapper -> {
+            final int entityId = wrapper.passthrough(Type.VAR_INT);
+            final TrackedEntity entity = tracker(wrapper.user()).entity(entityId);
+            if (entity != null && entity.entityType().isOrHasParent(EntityTypes1_19_4.DISPLAY)) {
+                handleDisplayMetadata(wrapper, entity);
+                return;
+            }
+
+            final List<Metadata> metadata = wrapper.read(Types1_19_4.METADATA_LIST);
+            handleMetadata(entityId, metadata, wrapper.user());
+            wrapper.write(Types1_19_3.METADATA_LIST, metadata);
+        });
 
         protocol.registerClientbound(ClientboundPackets1_19_4.JOIN_GAME, new PacketHandlers() {
             @Override
@@ -61,18 +89,10 @@ public final class EntityPackets1_19_4 extends EntityRewriter<ClientboundPackets
                 handler(dimensionDataHandler());
                 handler(biomeSizeTracker());
                 handler(worldDataTrackerHandlerByKey());
+                handler(wrapper -> wrapper.user().get(DisplayEntityStorage.class).clear());
                 handler(wrapper -> {
                     final CompoundTag registry = wrapper.get(Type.NAMED_COMPOUND_TAG, 0);
-                    registry.remove("minecraft:trim_pattern");
-                    registry.remove("minecraft:trim_material");
-                    registry.remove("minecraft:damage_type");
-
-                    final ListTag<CompoundTag> biomes = TagUtil.getRegistryEntries(registry, "worldgen/biome");
-                    for (final CompoundTag biomeTag : biomes) {
-                        final CompoundTag biomeData = biomeTag.getCompoundTag("element");
-                        final NumberTag hasPrecipitation = biomeData.getNumberTag("has_precipitation");
-                        biomeData.putString("precipitation", hasPrecipitation.asByte() == 1 ? "rain" : "none");
-                    }
+                    wrapper.set(Type.NAMED_COMPOUND_TAG, 0, RegistryCache.convert(Protocol1_19_3To1_19_4.class, registry, EntityPackets1_19_4::convertRegistry));
                 });
             }
         });
@@ -125,10 +145,43 @@ public final class EntityPackets1_19_4 extends EntityRewriter<ClientboundPackets
                 map(Type.STRING); // Dimension
                 map(Type.STRING); // World
                 handler(worldDataTrackerHandlerByKey());
+                handler(wrapper -> wrapper.user().get(DisplayEntityStorage.class).clear());
             }
         });
     }
 
+    private void handleDisplayMetadata(final PacketWrapper wrapper, final TrackedEntity entity) throws Exception {
+        final int entityId = wrapper.get(Type.VAR_INT, 0);
+        final DisplayEntityStorage displayEntityStorage = wrapper.user().get(DisplayEntityStorage.class);
+        final boolean initialMetadata = !entity.hasSentMetadata();
+        if (initialMetadata) {
+            displayEntityStorage.remove(entityId);
+        }
+
+        // Only keep what is visible on the armor stand, skip interpolation, transformation, brightness etc. right away
+        final List<Metadata> metadataList = new ArrayList<>();
+        short index;
+        while ((index = wrapper.read(Type.UNSIGNED_BYTE)) != 0xFF) {
+            final MetaType metaType = Types1_19_4.META_TYPES.byId(wrapper.read(Type.VAR_INT));
+            final Object value = wrapper.read(metaType.type());
+            if (index <= 7) {
+                metadataList.add(new Metadata(index, metaType, value));
+            } else if (index == 22 && entity.entityType() == EntityTypes1_19_4.TEXT_DISPLAY
+                && displayEntityStorage.updateText(entityId, (JsonElement) value)) {
+                metadataList.add(new Metadata(index, metaType, value));
+            }
+        }
+
+        if (metadataList.isEmpty() && !initialMetadata) {
+            // Nothing changed for the armor stand
+            wrapper.cancel();
+            return;
+        }
+
+        handleMetadata(entityId, metadataList, wrapper.user());
+        wrapper.write(Types1_19_3.METADATA_LIST, metadataList);
+    }
+
     @Override
     public void registerRewrites() {
         filter().handler((event, meta) -> {
@@ -205,4 +258,17 @@ public final class EntityPackets1_19_4 extends EntityRewriter<ClientboundPackets
     public EntityType typeFromId(final int type) {
         return EntityTypes1_19_4.getTypeFromId(type);
     }
+
+    private static void convertRegistry(final CompoundTag registry) {
+        registry.remove("minecraft:trim_pattern");
+        registry.remove("minecraft:trim_material");
+        registry.remove("minecraft:damage_type");
+
+        final ListTag<CompoundTag> biomes = TagUtil.getRegistryEntries(registry, "worldgen/biome");
+        for (final CompoundTag biomeTag : biomes) {
+            final CompoundTag biomeData = biomeTag.getCompoundTag("element");
+            final NumberTag hasPrecipitation = biomeData.getNumberTag("has_precipitation");
+            biomeData.putString("precipitation", hasPrecipitation.asByte() == 1 ? "rain" : "none");
+        }
+    }
 }
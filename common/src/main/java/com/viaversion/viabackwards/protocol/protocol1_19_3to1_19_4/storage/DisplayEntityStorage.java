@@ -0,0 +1,71 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.protocol.protocol1_19_3to1_19_4.storage;
+
+import com.viaversion.viabackwards.api.footprint.FootprintReport;
+import com.viaversion.viabackwards.api.footprint.StorageFootprint;
+import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectMap;
+import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectOpenHashMap;
+import com.viaversion.viaversion.libs.gson.JsonElement;
+
+/**
+ * Keeps the last text sent for display entities downgraded to armor stands, so unchanged updates can be dropped.
+ */
+public final class DisplayEntityStorage implements StorageFootprint {
+
+    static {
+        FootprintReport.register(DisplayEntityStorage.class);
+    }
+
+    private final Int2ObjectMap<JsonElement> texts = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * Sets the unprocessed text of the given entity.
+     *
+     * @param entityId entity id
+     * @param text     unprocessed text as sent by the server
+     * @return true if the text has changed
+     */
+    public boolean updateText(final int entityId, final JsonElement text) {
+        if (text.equals(texts.get(entityId))) {
+            return false;
+        }
+
+        // The sent element is modified by translation afterwards
+        texts.put(entityId, text.deepCopy());
+        return true;
+    }
+
+    public void remove(final int entityId) {
+        texts.remove(entityId);
+    }
+
+    public void clear() {
+        texts.clear();
+    }
+
+    @Override
+    public int footprintEntries() {
+        return texts.size();
+    }
+
+    @Override
+    public long footprintBytes() {
+        return texts.size() * 256L; // Rough average of a copied text component
+    }
+}
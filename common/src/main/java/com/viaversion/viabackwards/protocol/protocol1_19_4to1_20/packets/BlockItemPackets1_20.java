@@ -18,6 +18,7 @@
 package com.viaversion.viabackwards.protocol.protocol1_19_4to1_20.packets;
 
 import com.viaversion.viabackwards.api.rewriters.BackwardsItemRewriter;
+import com.viaversion.viabackwards.api.rewriters.MultiBlockChangeTranscoder;
 import com.viaversion.viabackwards.protocol.protocol1_19_4to1_20.Protocol1_19_4To1_20;
 import com.viaversion.viabackwards.protocol.protocol1_19_4to1_20.storage.BackSignEditStorage;
 import com.viaversion.viaversion.api.connection.UserConnection;
@@ -72,6 +73,7 @@ public final class BlockItemPackets1_20 extends BackwardsItemRewriter<Clientboun
             wrapper.write(Type.BOOLEAN, true); // Trust edges
         });
 
+        MultiBlockChangeTranscoder.registerHandler(protocol.getClass());
         protocol.registerClientbound(ClientboundPackets1_19_4.MULTI_BLOCK_CHANGE, new PacketHandlers() {
             @Override
             public void register() {
@@ -20,6 +20,7 @@ package com.viaversion.viabackwards.protocol.protocol1_19_4to1_20.packets;
 import com.google.common.collect.Sets;
 import com.viaversion.viabackwards.api.rewriters.EntityRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_19_4to1_20.Protocol1_19_4To1_20;
+import com.viaversion.viabackwards.utils.RegistryCache;
 import com.viaversion.viaversion.api.minecraft.Quaternion;
 import com.viaversion.viaversion.api.minecraft.entities.EntityType;
 import com.viaversion.viaversion.api.minecraft.entities.EntityTypes1_19_4;
@@ -79,26 +80,7 @@ public final class EntityPackets1_20 extends EntityRewriter<ClientboundPackets1_
                 handler(worldDataTrackerHandlerByKey()); // Tracks world height and name for chunk data and entity (un)tracking
                 handler(wrapper -> {
                     final CompoundTag registry = wrapper.get(Type.NAMED_COMPOUND_TAG, 0);
-
-                    final ListTag<CompoundTag> values;
-                    // A 1.20 server can't send this element, and the 1.20 client still works, if the element is missing
-                    // on a 1.19.4 client there is an exception, so in case the 1.20 server doesn't send the element we put in an original 1.20 element
-                    CompoundTag trimPatternTag = registry.getCompoundTag("minecraft:trim_pattern");
-                    if (trimPatternTag != null || (trimPatternTag = registry.getCompoundTag("trim_pattern")) != null) {
-                        values = trimPatternTag.getListTag("value", CompoundTag.class);
-                    } else {
-                        final CompoundTag trimPatternRegistry = Protocol1_19_4To1_20.MAPPINGS.getTrimPatternRegistry().copy();
-                        registry.put("minecraft:trim_pattern", trimPatternRegistry);
-                        values = trimPatternRegistry.getListTag("value", CompoundTag.class);
-                    }
-
-                    for (final CompoundTag entry : values) {
-                        final CompoundTag element = entry.getCompoundTag("element");
-                        final StringTag templateItem = element.getStringTag("template_item");
-                        if (newTrimPatterns.contains(Key.stripMinecraftNamespace(templateItem.getValue()))) {
-                            templateItem.setValue("minecraft:spire_armor_trim_smithing_template");
-                        }
-                    }
+                    wrapper.set(Type.NAMED_COMPOUND_TAG, 0, RegistryCache.convert(Protocol1_19_4To1_20.class, registry, EntityPackets1_20.this::convertRegistry));
                 });
             }
         });
@@ -156,4 +138,26 @@ public final class EntityPackets1_20 extends EntityRewriter<ClientboundPackets1_
     private Quaternion rotateY180(final Quaternion quaternion) {
         return new Quaternion(-quaternion.z(), quaternion.w(), quaternion.x(), -quaternion.y());
     }
+
+    private void convertRegistry(final CompoundTag registry) {
+        final ListTag<CompoundTag> values;
+        // A 1.20 server can't send this element, and the 1.20 client still works, if the element is missing
+        // on a 1.19.4 client there is an exception, so in case the 1.20 server doesn't send the element we put in an original 1.20 element
+        CompoundTag trimPatternTag = registry.getCompoundTag("minecraft:trim_pattern");
+        if (trimPatternTag != null || (trimPatternTag = registry.getCompoundTag("trim_pattern")) != null) {
+            values = trimPatternTag.getListTag("value", CompoundTag.class);
+        } else {
+            final CompoundTag trimPatternRegistry = Protocol1_19_4To1_20.MAPPINGS.getTrimPatternRegistry().copy();
+            registry.put("minecraft:trim_pattern", trimPatternRegistry);
+            values = trimPatternRegistry.getListTag("value", CompoundTag.class);
+        }
+
+        for (final CompoundTag entry : values) {
+            final CompoundTag element = entry.getCompoundTag("element");
+            final StringTag templateItem = element.getStringTag("template_item");
+            if (newTrimPatterns.contains(Key.stripMinecraftNamespace(templateItem.getValue()))) {
+                templateItem.setValue("minecraft:spire_armor_trim_smithing_template");
+            }
+        }
+    }
 }
@@ -19,12 +19,17 @@ package com.viaversion.viabackwards.protocol.protocol1_19to1_19_1;
 
 import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.api.BackwardsProtocol;
+import com.viaversion.viabackwards.api.entities.storage.BackwardsEntityTracker;
 import com.viaversion.viabackwards.api.rewriters.TranslatableRewriter;
+import com.viaversion.viabackwards.protocol.protocol1_19to1_19_1.data.ChatDecoration;
+import com.viaversion.viabackwards.protocol.protocol1_19to1_19_1.data.ChatSigningExecutor;
+import com.viaversion.viabackwards.protocol.protocol1_19to1_19_1.data.ChatSigningQueue;
 import com.viaversion.viabackwards.protocol.protocol1_19to1_19_1.packets.EntityPackets1_19_1;
 import com.viaversion.viabackwards.protocol.protocol1_19to1_19_1.storage.ChatRegistryStorage;
 import com.viaversion.viabackwards.protocol.protocol1_19to1_19_1.storage.ChatRegistryStorage1_19_1;
 import com.viaversion.viabackwards.protocol.protocol1_19to1_19_1.storage.NonceStorage;
 import com.viaversion.viabackwards.protocol.protocol1_19to1_19_1.storage.ReceivedMessagesStorage;
+import com.viaversion.viabackwards.utils.RegistryCache;
 import com.viaversion.viaversion.api.Via;
 import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.minecraft.PlayerMessageSignature;
@@ -38,7 +43,6 @@ import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
 import com.viaversion.viaversion.api.protocol.packet.State;
 import com.viaversion.viaversion.api.protocol.remapper.PacketHandlers;
 import com.viaversion.viaversion.api.type.Type;
-import com.viaversion.viaversion.data.entity.EntityTrackerBase;
 import com.viaversion.viaversion.libs.gson.JsonElement;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.CompoundTag;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.ListTag;
@@ -46,7 +50,6 @@ import com.viaversion.viaversion.libs.opennbt.tag.builtin.NumberTag;
 import com.viaversion.viaversion.protocols.base.ClientboundLoginPackets;
 import com.viaversion.viaversion.protocols.base.ServerboundLoginPackets;
 import com.viaversion.viaversion.protocols.protocol1_19_1to1_19.ClientboundPackets1_19_1;
-import com.viaversion.viaversion.protocols.protocol1_19_1to1_19.Protocol1_19_1To1_19;
 import com.viaversion.viaversion.protocols.protocol1_19_1to1_19.ServerboundPackets1_19_1;
 import com.viaversion.viaversion.protocols.protocol1_19to1_18_2.ClientboundPackets1_19;
 import com.viaversion.viaversion.protocols.protocol1_19to1_18_2.Protocol1_19To1_18_2;
@@ -58,6 +61,7 @@ import com.viaversion.viaversion.util.Pair;
 import com.viaversion.viaversion.util.TagUtil;
 import java.util.List;
 import java.util.UUID;
+import java.util.logging.Level;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 public final class Protocol1_19To1_19_1 extends BackwardsProtocol<ClientboundPackets1_19_1, ClientboundPackets1_19, ServerboundPackets1_19_1, ServerboundPackets1_19> {
@@ -111,7 +115,8 @@ public final class Protocol1_19To1_19_1 extends BackwardsProtocol<ClientboundPac
 
                     // Replace with 1.19 chat types
                     // Ensures that the client has a chat type for system message, with and without overlay
-                    registry.put("minecraft:chat_type", Protocol1_19To1_18_2.MAPPINGS.chatRegistry());
+                    wrapper.set(Type.NAMED_COMPOUND_TAG, 0, RegistryCache.convert(Protocol1_19To1_19_1.class, registry,
+                        tag -> tag.put("minecraft:chat_type", Protocol1_19To1_18_2.MAPPINGS.chatRegistry())));
                 });
                 handler(entityRewriter.worldTrackerHandlerByKey());
             }
@@ -197,6 +202,12 @@ public final class Protocol1_19To1_19_1 extends BackwardsProtocol<ClientboundPac
                     final ChatSession1_19_1 chatSession = wrapper.user().get(ChatSession1_19_1.class);
                     final ReceivedMessagesStorage messagesStorage = wrapper.user().get(ReceivedMessagesStorage.class);
 
+                    if (chatSession != null && ChatSigningExecutor.isEnabled()) {
+                        wrapper.cancel();
+                        signChatMessageAsync(wrapper, chatSession, messagesStorage);
+                        return;
+                    }
+
                     if (chatSession != null) {
                         final UUID sender = wrapper.user().getProtocolInfo().getUuid();
                         final String message = wrapper.get(Type.STRING, 0);
@@ -232,6 +243,12 @@ public final class Protocol1_19To1_19_1 extends BackwardsProtocol<ClientboundPac
                     final ChatSession1_19_1 chatSession = wrapper.user().get(ChatSession1_19_1.class);
                     final SignableCommandArgumentsProvider argumentsProvider = Via.getManager().getProviders().get(SignableCommandArgumentsProvider.class);
 
+                    if (chatSession != null && argumentsProvider != null && ChatSigningExecutor.isEnabled()) {
+                        wrapper.cancel();
+                        signChatCommandAsync(wrapper, chatSession, messagesStorage, argumentsProvider);
+                        return;
+                    }
+
                     if (chatSession != null && argumentsProvider != null) {
                         final int signatures = wrapper.read(Type.VAR_INT);
                         for (int i = 0; i < signatures; i++) {
@@ -374,11 +391,85 @@ public final class Protocol1_19To1_19_1 extends BackwardsProtocol<ClientboundPac
         cancelClientbound(ClientboundPackets1_19_1.PLAYER_CHAT_HEADER);
     }
 
+    private void signChatMessageAsync(final PacketWrapper wrapper, final ChatSession1_19_1 chatSession, final ReceivedMessagesStorage messagesStorage) throws Exception {
+        final UserConnection user = wrapper.user();
+        final UUID sender = user.getProtocolInfo().getUuid();
+        final String message = wrapper.get(Type.STRING, 0);
+        final long timestamp = wrapper.get(Type.LONG, 0);
+        final long salt = wrapper.get(Type.LONG, 1);
+        final PlayerMessageSignature[] lastSignatures = messagesStorage.lastSignatures();
+        messagesStorage.resetUnacknowledgedCount();
+
+        user.get(ChatSigningQueue.class).enqueue(() -> {
+            final MessageMetadata metadata = new MessageMetadata(sender, timestamp, salt);
+            final DecoratableMessage decoratableMessage = new DecoratableMessage(message);
+            final byte[] signature = chatSession.signChatMessage(metadata, decoratableMessage, lastSignatures);
+
+            final PacketWrapper chatMessage = PacketWrapper.create(ServerboundPackets1_19_1.CHAT_MESSAGE, user);
+            chatMessage.write(Type.STRING, message);
+            chatMessage.write(Type.LONG, timestamp);
+            chatMessage.write(Type.LONG, salt);
+            chatMessage.write(Type.BYTE_ARRAY_PRIMITIVE, signature);
+            chatMessage.write(Type.BOOLEAN, decoratableMessage.isDecorated());
+            chatMessage.write(Type.PLAYER_MESSAGE_SIGNATURE_ARRAY, lastSignatures);
+            chatMessage.write(Type.OPTIONAL_PLAYER_MESSAGE_SIGNATURE, null);
+            sendToServerOnEventLoop(chatMessage);
+        });
+    }
+
+    private void signChatCommandAsync(final PacketWrapper wrapper, final ChatSession1_19_1 chatSession, final ReceivedMessagesStorage messagesStorage,
+                                      final SignableCommandArgumentsProvider argumentsProvider) throws Exception {
+        final UserConnection user = wrapper.user();
+        final UUID sender = user.getProtocolInfo().getUuid();
+        final String command = wrapper.get(Type.STRING, 0);
+        final long timestamp = wrapper.get(Type.LONG, 0);
+        final long salt = wrapper.get(Type.LONG, 1);
+        final int signatures = wrapper.read(Type.VAR_INT);
+        for (int i = 0; i < signatures; i++) {
+            wrapper.read(Type.STRING); // Argument name
+            wrapper.read(Type.BYTE_ARRAY_PRIMITIVE); // Signature
+        }
+        final boolean signedPreview = wrapper.read(Type.BOOLEAN);
+        final List<Pair<String, String>> arguments = argumentsProvider.getSignableArguments(command);
+        final PlayerMessageSignature[] lastSignatures = messagesStorage.lastSignatures();
+        messagesStorage.resetUnacknowledgedCount();
+
+        user.get(ChatSigningQueue.class).enqueue(() -> {
+            final MessageMetadata metadata = new MessageMetadata(sender, timestamp, salt);
+            final PacketWrapper chatCommand = PacketWrapper.create(ServerboundPackets1_19_1.CHAT_COMMAND, user);
+            chatCommand.write(Type.STRING, command);
+            chatCommand.write(Type.LONG, timestamp);
+            chatCommand.write(Type.LONG, salt);
+            chatCommand.write(Type.VAR_INT, arguments.size());
+            for (final Pair<String, String> argument : arguments) {
+                final byte[] signature = chatSession.signChatMessage(metadata, new DecoratableMessage(argument.value()), lastSignatures);
+
+                chatCommand.write(Type.STRING, argument.key());
+                chatCommand.write(Type.BYTE_ARRAY_PRIMITIVE, signature);
+            }
+            chatCommand.write(Type.BOOLEAN, signedPreview);
+            chatCommand.write(Type.PLAYER_MESSAGE_SIGNATURE_ARRAY, lastSignatures);
+            chatCommand.write(Type.OPTIONAL_PLAYER_MESSAGE_SIGNATURE, null);
+            sendToServerOnEventLoop(chatCommand);
+        });
+    }
+
+    private void sendToServerOnEventLoop(final PacketWrapper packet) {
+        packet.user().getChannel().eventLoop().execute(() -> {
+            try {
+                packet.sendToServer(Protocol1_19To1_19_1.class);
+            } catch (final Exception e) {
+                ViaBackwards.getPlatform().getLogger().log(Level.SEVERE, "Failed to send signed chat packet", e);
+            }
+        });
+    }
+
     @Override
     public void init(final UserConnection user) {
         user.put(new ChatRegistryStorage1_19_1());
         user.put(new ReceivedMessagesStorage());
-        addEntityTracker(user, new EntityTrackerBase(user, EntityTypes1_19.PLAYER));
+        user.put(new ChatSigningQueue());
+        addEntityTracker(user, new BackwardsEntityTracker(user, EntityTypes1_19.PLAYER));
     }
 
     @Override
@@ -392,17 +483,12 @@ public final class Protocol1_19To1_19_1 extends BackwardsProtocol<ClientboundPac
     }
 
     public static @Nullable JsonElement decorateChatMessage(final ChatRegistryStorage chatRegistryStorage, final int chatTypeId, final JsonElement senderName, @Nullable final JsonElement targetName, final JsonElement message) {
-        CompoundTag chatType = chatRegistryStorage.chatType(chatTypeId);
-        if (chatType == null) {
+        if (!chatRegistryStorage.hasChatType(chatTypeId)) {
             ViaBackwards.getPlatform().getLogger().warning("Chat message has unknown chat type id " + chatTypeId + ". Message: " + message);
             return null;
         }
 
-        chatType = chatType.getCompoundTag("element").getCompoundTag("chat");
-        if (chatType == null) {
-            return null;
-        }
-
-        return Protocol1_19_1To1_19.translatabaleComponentFromTag(chatType, senderName, targetName, message);
+        final ChatDecoration decoration = chatRegistryStorage.chatDecoration(chatTypeId);
+        return decoration != null ? decoration.decorate(senderName, targetName, message) : null;
     }
 }
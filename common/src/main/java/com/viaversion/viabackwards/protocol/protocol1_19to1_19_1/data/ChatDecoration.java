@@ -0,0 +1,155 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.protocol.protocol1_19to1_19_1.data;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.viaversion.viabackwards.ViaBackwards;
+import com.viaversion.viaversion.libs.gson.JsonArray;
+import com.viaversion.viaversion.libs.gson.JsonElement;
+import com.viaversion.viaversion.libs.gson.JsonObject;
+import com.viaversion.viaversion.libs.gson.JsonPrimitive;
+import com.viaversion.viaversion.libs.opennbt.tag.builtin.ByteTag;
+import com.viaversion.viaversion.libs.opennbt.tag.builtin.CompoundTag;
+import com.viaversion.viaversion.libs.opennbt.tag.builtin.ListTag;
+import com.viaversion.viaversion.libs.opennbt.tag.builtin.StringTag;
+import com.viaversion.viaversion.libs.opennbt.tag.builtin.Tag;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Chat decoration of a chat type, compiled once when the registry is received and filled for every chat message.
+ */
+public final class ChatDecoration {
+
+    private static final byte SENDER = 0;
+    private static final byte CONTENT = 1;
+    private static final byte TARGET = 2;
+    private static final String[] FORMATTINGS = {"bold", "italic", "underlined", "strikethrough", "obfuscated"};
+    private static final Set<String> COLORS = ImmutableSet.of("black", "dark_blue", "dark_green", "dark_aqua", "dark_red", "dark_purple",
+        "gold", "gray", "dark_gray", "blue", "green", "aqua", "red", "light_purple", "yellow", "white");
+    private final JsonPrimitive translationKey;
+    private final String[] styleKeys;
+    private final JsonPrimitive[] styleValues;
+    private final byte[] parameters;
+
+    private ChatDecoration(final JsonPrimitive translationKey, final String[] styleKeys, final JsonPrimitive[] styleValues, final byte[] parameters) {
+        this.translationKey = translationKey;
+        this.styleKeys = styleKeys;
+        this.styleValues = styleValues;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Compiles the chat decoration of a chat type registry entry.
+     *
+     * @param chatType chat type registry entry
+     * @return compiled chat decoration, or null if the chat type has no chat decoration
+     */
+    public static @Nullable ChatDecoration fromChatType(final CompoundTag chatType) {
+        final CompoundTag element = chatType.getCompoundTag("element");
+        final CompoundTag chat = element != null ? element.getCompoundTag("chat") : null;
+        if (chat == null) {
+            return null;
+        }
+
+        final List<String> styleKeys = new ArrayList<>();
+        final List<JsonPrimitive> styleValues = new ArrayList<>();
+        final CompoundTag style = chat.getCompoundTag("style");
+        if (style != null) {
+            final StringTag color = style.getStringTag("color");
+            if (color != null && COLORS.contains(color.getValue())) {
+                styleKeys.add("color");
+                styleValues.add(new JsonPrimitive(color.getValue()));
+            }
+
+            for (final String formatting : FORMATTINGS) {
+                final Tag formattingTag = style.get(formatting);
+                if (formattingTag instanceof ByteTag) {
+                    styleKeys.add(formatting);
+                    styleValues.add(new JsonPrimitive(((ByteTag) formattingTag).asByte() != 0));
+                }
+            }
+        }
+
+        final ListTag<StringTag> parameterTags = chat.getListTag("parameters", StringTag.class);
+        final byte[] parameters = new byte[parameterTags != null ? parameterTags.size() : 0];
+        int size = 0;
+        if (parameterTags != null) {
+            for (final StringTag parameterTag : parameterTags) {
+                switch (parameterTag.getValue()) {
+                    case "sender":
+                        parameters[size++] = SENDER;
+                        break;
+                    case "content":
+                        parameters[size++] = CONTENT;
+                        break;
+                    case "team_name":
+                    case "target":
+                        parameters[size++] = TARGET;
+                        break;
+                    default:
+                        ViaBackwards.getPlatform().getLogger().warning("Unknown parameter for chat decoration: " + parameterTag.getValue());
+                }
+            }
+        }
+
+        final String translationKey = chat.getStringTag("translation_key").getValue();
+        return new ChatDecoration(new JsonPrimitive(translationKey), styleKeys.toArray(new String[0]), styleValues.toArray(new JsonPrimitive[0]),
+            size == parameters.length ? parameters : Arrays.copyOf(parameters, size));
+    }
+
+    /**
+     * Returns the decorated chat message.
+     *
+     * @param sender  sender name
+     * @param target  target or team name if present
+     * @param content message content
+     * @return decorated chat message
+     */
+    public JsonElement decorate(final JsonElement sender, @Nullable final JsonElement target, final JsonElement content) {
+        final JsonObject component = new JsonObject();
+        component.add("translate", translationKey);
+        for (int i = 0; i < styleKeys.length; i++) {
+            component.add(styleKeys[i], styleValues[i]);
+        }
+
+        if (parameters.length != 0) {
+            final JsonArray arguments = new JsonArray();
+            for (final byte parameter : parameters) {
+                switch (parameter) {
+                    case SENDER:
+                        arguments.add(sender);
+                        break;
+                    case CONTENT:
+                        arguments.add(content);
+                        break;
+                    case TARGET:
+                        Preconditions.checkNotNull(target, "Team name is null");
+                        arguments.add(target);
+                        break;
+                }
+            }
+            component.add("with", arguments);
+        }
+        return component;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.protocol.protocol1_19to1_19_1.data;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.viaversion.viabackwards.ViaBackwards;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared bounded worker pool used to sign chat messages and commands of 1.19 clients off the netty event loop.
+ */
+public final class ChatSigningExecutor {
+
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final AtomicInteger PENDING = new AtomicInteger();
+    private static final LongAdder SIGNED = new LongAdder();
+    private static final LongAdder SIGNING_NANOS = new LongAdder();
+    private static final AtomicLong MAX_SIGNING_NANOS = new AtomicLong();
+    private static ThreadPoolExecutor executor;
+
+    private ChatSigningExecutor() {
+    }
+
+    public static boolean isEnabled() {
+        return ViaBackwards.getConfig().asyncChatSigningThreads() > 0;
+    }
+
+    static synchronized void execute(final Runnable runnable) {
+        if (executor == null) {
+            final int threads = ViaBackwards.getConfig().asyncChatSigningThreads();
+            executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                new ThreadFactoryBuilder().setNameFormat("ViaBackwards Chat Signing #%d").setDaemon(true).build());
+        }
+        executor.execute(runnable);
+    }
+
+    static void incrementPending() {
+        PENDING.incrementAndGet();
+    }
+
+    static void recordSigning(final long nanos) {
+        PENDING.decrementAndGet();
+        SIGNED.increment();
+        SIGNING_NANOS.add(nanos);
+        MAX_SIGNING_NANOS.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Returns the number of messages currently waiting to be signed across all connections.
+     *
+     * @return number of messages waiting to be signed
+     */
+    public static int queueDepth() {
+        return PENDING.get();
+    }
+
+    /**
+     * Returns the number of messages and command arguments signed asynchronously since startup.
+     *
+     * @return number of signed messages
+     */
+    public static long signedMessages() {
+        return SIGNED.sum();
+    }
+
+    /**
+     * Returns the average time between a message being queued and its signature being ready.
+     *
+     * @return average signing latency in nanoseconds
+     */
+    public static long averageSigningLatencyNanos() {
+        final long signed = SIGNED.sum();
+        return signed == 0 ? 0 : SIGNING_NANOS.sum() / signed;
+    }
+
+    /**
+     * Returns the highest time between a message being queued and its signature being ready.
+     *
+     * @return maximum signing latency in nanoseconds
+     */
+    public static long maxSigningLatencyNanos() {
+        return MAX_SIGNING_NANOS.get();
+    }
+}
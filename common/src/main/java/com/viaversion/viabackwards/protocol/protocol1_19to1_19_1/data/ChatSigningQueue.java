@@ -0,0 +1,89 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.protocol.protocol1_19to1_19_1.data;
+
+import com.viaversion.viabackwards.ViaBackwards;
+import com.viaversion.viaversion.api.connection.StorableObject;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Level;
+
+/**
+ * Per-connection queue running signing tasks one after another on the {@link ChatSigningExecutor},
+ * so that signed messages are sent in the same order they were received in.
+ */
+public final class ChatSigningQueue implements StorableObject {
+
+    private final Queue<SigningTask> tasks = new ArrayDeque<>();
+    private boolean running;
+
+    public void enqueue(final SigningTask task) {
+        ChatSigningExecutor.incrementPending();
+        synchronized (this) {
+            tasks.add(new SigningTask() {
+                private final long queuedAt = System.nanoTime();
+
+                @Override
+                public void run() throws Exception {
+                    try {
+                        task.run();
+                    } finally {
+                        ChatSigningExecutor.recordSigning(System.nanoTime() - queuedAt);
+                    }
+                }
+            });
+            if (running) {
+                return;
+            }
+            running = true;
+        }
+
+        try {
+            ChatSigningExecutor.execute(this::drain);
+        } catch (final RejectedExecutionException e) {
+            // Too many messages queued, sign on the current thread instead
+            drain();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            final SigningTask task;
+            synchronized (this) {
+                task = tasks.poll();
+                if (task == null) {
+                    running = false;
+                    return;
+                }
+            }
+
+            try {
+                task.run();
+            } catch (final Exception e) {
+                ViaBackwards.getPlatform().getLogger().log(Level.SEVERE, "Failed to sign chat message", e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface SigningTask {
+
+        void run() throws Exception;
+    }
+}
@@ -17,23 +17,38 @@
  */
 package com.viaversion.viabackwards.protocol.protocol1_19to1_19_1.storage;
 
-import com.viaversion.viaversion.api.connection.StorableObject;
+import com.viaversion.viabackwards.api.footprint.FootprintReport;
+import com.viaversion.viabackwards.api.footprint.StorageFootprint;
+import com.viaversion.viabackwards.protocol.protocol1_19to1_19_1.data.ChatDecoration;
 import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectMap;
 import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectOpenHashMap;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.CompoundTag;
 import com.viaversion.viaversion.protocols.protocol1_19to1_18_2.Protocol1_19To1_18_2;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-public abstract class ChatRegistryStorage implements StorableObject {
+public abstract class ChatRegistryStorage implements StorageFootprint {
 
-    private final Int2ObjectMap<CompoundTag> chatTypes = new Int2ObjectOpenHashMap<>();
+    static {
+        FootprintReport.register(ChatRegistryStorage.class);
+    }
+
+    // Chat types without a chat decoration are stored with a null value
+    private final Int2ObjectMap<ChatDecoration> chatTypes = new Int2ObjectOpenHashMap<>();
 
-    public @Nullable CompoundTag chatType(final int id) {
-        return chatTypes.isEmpty() ? Protocol1_19To1_18_2.MAPPINGS.chatType(id) : chatTypes.get(id);
+    public boolean hasChatType(final int id) {
+        return chatTypes.isEmpty() ? Protocol1_19To1_18_2.MAPPINGS.chatType(id) != null : chatTypes.containsKey(id);
+    }
+
+    public @Nullable ChatDecoration chatDecoration(final int id) {
+        if (chatTypes.isEmpty()) {
+            final CompoundTag chatType = Protocol1_19To1_18_2.MAPPINGS.chatType(id);
+            return chatType != null ? ChatDecoration.fromChatType(chatType) : null;
+        }
+        return chatTypes.get(id);
     }
 
     public void addChatType(final int id, final CompoundTag chatType) {
-        chatTypes.put(id, chatType);
+        chatTypes.put(id, ChatDecoration.fromChatType(chatType));
     }
 
     public void clear() {
@@ -44,4 +59,14 @@ public abstract class ChatRegistryStorage implements StorableObject {
     public boolean clearOnServerSwitch() {
         return false;
     }
+
+    @Override
+    public int footprintEntries() {
+        return chatTypes.size();
+    }
+
+    @Override
+    public long footprintBytes() {
+        return chatTypes.size() * 160L; // Precompiled decoration with its style
+    }
 }
@@ -19,6 +19,7 @@ package com.viaversion.viabackwards.protocol.protocol1_20_3to1_20_5;
 
 import com.viaversion.viabackwards.api.BackwardsProtocol;
 import com.viaversion.viabackwards.api.data.BackwardsMappings;
+import com.viaversion.viabackwards.api.entities.storage.BackwardsEntityTracker;
 import com.viaversion.viabackwards.api.rewriters.SoundRewriter;
 import com.viaversion.viabackwards.api.rewriters.TranslatableRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_20_3to1_20_5.provider.TransferProvider;
@@ -37,7 +38,6 @@ import com.viaversion.viaversion.api.protocol.packet.State;
 import com.viaversion.viaversion.api.protocol.packet.provider.PacketTypesProvider;
 import com.viaversion.viaversion.api.protocol.packet.provider.SimplePacketTypesProvider;
 import com.viaversion.viaversion.api.type.Type;
-import com.viaversion.viaversion.data.entity.EntityTrackerBase;
 import com.viaversion.viaversion.protocols.base.ClientboundLoginPackets;
 import com.viaversion.viaversion.protocols.base.ServerboundLoginPackets;
 import com.viaversion.viaversion.protocols.protocol1_19_4to1_19_3.rewriter.CommandRewriter1_19_4;
@@ -214,7 +214,7 @@ public final class Protocol1_20_3To1_20_5 extends BackwardsProtocol<ClientboundP
 
     @Override
     public void init(final UserConnection user) {
-        addEntityTracker(user, new EntityTrackerBase(user, EntityTypes1_20_5.PLAYER));
+        addEntityTracker(user, new BackwardsEntityTracker(user, EntityTypes1_20_5.PLAYER));
         user.put(new SecureChatStorage());
         user.put(new CookieStorage());
         user.put(new RegistryDataStorage());
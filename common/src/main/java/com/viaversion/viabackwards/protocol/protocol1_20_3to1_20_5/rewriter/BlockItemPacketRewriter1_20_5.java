@@ -18,14 +18,13 @@
 package com.viaversion.viabackwards.protocol.protocol1_20_3to1_20_5.rewriter;
 
 import com.viaversion.viabackwards.api.rewriters.BackwardsStructuredItemRewriter;
+import com.viaversion.viabackwards.api.rewriters.MultiBlockChangeTranscoder;
 import com.viaversion.viabackwards.protocol.protocol1_20_3to1_20_5.Protocol1_20_3To1_20_5;
 import com.viaversion.viaversion.api.Via;
 import com.viaversion.viaversion.api.connection.UserConnection;
-import com.viaversion.viaversion.api.minecraft.Particle;
 import com.viaversion.viaversion.api.minecraft.item.Item;
 import com.viaversion.viaversion.api.type.Type;
 import com.viaversion.viaversion.api.type.types.chunk.ChunkType1_20_2;
-import com.viaversion.viaversion.api.type.types.version.Types1_20_3;
 import com.viaversion.viaversion.api.type.types.version.Types1_20_5;
 import com.viaversion.viaversion.protocols.protocol1_20_3to1_20_2.packet.ServerboundPacket1_20_3;
 import com.viaversion.viaversion.protocols.protocol1_20_3to1_20_2.packet.ServerboundPackets1_20_3;
@@ -42,10 +41,18 @@ public final class BlockItemPacketRewriter1_20_5 extends BackwardsStructuredItem
 
     private static final StructuredDataConverter DATA_CONVERTER = new StructuredDataConverter(true);
     private final Protocol1_20_5To1_20_3 vvProtocol = Via.getManager().getProtocolManager().getProtocol(Protocol1_20_5To1_20_3.class);
+    private final ParticleTranscoder1_20_5 particleTranscoder;
 
     public BlockItemPacketRewriter1_20_5(final Protocol1_20_3To1_20_5 protocol) {
         super(protocol, Types1_20_5.ITEM, Types1_20_5.ITEM_ARRAY, Type.ITEM1_20_2, Type.ITEM1_20_2_ARRAY);
         enchantmentRewriter.setRewriteIds(false); // Let VV handle it
+        particleTranscoder = new ParticleTranscoder1_20_5(protocol, this);
+    }
+
+    @Override
+    public void onMappingDataLoaded() {
+        super.onMappingDataLoaded();
+        particleTranscoder.onMappingDataLoaded();
     }
 
     @Override
@@ -53,6 +60,7 @@ public final class BlockItemPacketRewriter1_20_5 extends BackwardsStructuredItem
         final BlockRewriter<ClientboundPacket1_20_5> blockRewriter = BlockRewriter.for1_20_2(protocol);
         blockRewriter.registerBlockAction(ClientboundPackets1_20_5.BLOCK_ACTION);
         blockRewriter.registerBlockChange(ClientboundPackets1_20_5.BLOCK_CHANGE);
+        MultiBlockChangeTranscoder.registerHandler(protocol.getClass());
         blockRewriter.registerVarLongMultiBlockChange1_20(ClientboundPackets1_20_5.MULTI_BLOCK_CHANGE);
         blockRewriter.registerEffect(ClientboundPackets1_20_5.EFFECT, 1010, 2001);
         blockRewriter.registerChunkData1_19(ClientboundPackets1_20_5.CHUNK_DATA, ChunkType1_20_2::new);
@@ -85,23 +93,13 @@ public final class BlockItemPacketRewriter1_20_5 extends BackwardsStructuredItem
             final float data = wrapper.passthrough(Type.FLOAT);
             wrapper.passthrough(Type.INT); // Particle Count
 
-            // Move it to the beginning, move out arguments here
-            final Particle particle = wrapper.read(Types1_20_5.PARTICLE);
-            rewriteParticle(wrapper.user(), particle);
-            if (particle.id() == protocol.getMappingData().getParticleMappings().mappedId("entity_effect")) {
-                // Remove color argument
-                final int color = particle.<Integer>removeArgument(0).getValue();
-                if (data == 0) {
-                    wrapper.set(Type.FLOAT, 3, (float) color);
-                }
-            } else if (particle.id() == protocol.getMappingData().getParticleMappings().mappedId("dust_color_transition")) {
-                // fromColor, toColor, scale -> fromColor, scale, toColor
-                particle.add(3, Type.FLOAT, particle.<Float>removeArgument(6).getValue());
-            }
-
-            wrapper.set(Type.VAR_INT, 0, particle.id());
-            for (final Particle.ParticleData<?> argument : particle.getArguments()) {
-                argument.write(wrapper);
+            // Move the id to the beginning, rewrite the arguments in place
+            final int particleId = wrapper.read(Type.VAR_INT);
+            wrapper.set(Type.VAR_INT, 0, particleTranscoder.mappedId(particleId));
+            final Integer color = particleTranscoder.transcodeArguments(wrapper, particleId);
+            if (color != null && data == 0) {
+                // Removed entity effect color argument
+                wrapper.set(Type.FLOAT, 3, (float) color);
             }
         });
 
@@ -121,8 +119,8 @@ public final class BlockItemPacketRewriter1_20_5 extends BackwardsStructuredItem
             wrapper.passthrough(Type.FLOAT); // Knockback Z
             wrapper.passthrough(Type.VAR_INT); // Block interaction type
 
-            protocol.getEntityRewriter().rewriteParticle(wrapper, Types1_20_5.PARTICLE, Types1_20_3.PARTICLE); // Small explosion particle
-            protocol.getEntityRewriter().rewriteParticle(wrapper, Types1_20_5.PARTICLE, Types1_20_3.PARTICLE); // Large explosion particle
+            particleTranscoder.transcode(wrapper); // Small explosion particle
+            particleTranscoder.transcode(wrapper); // Large explosion particle
 
             int soundId = wrapper.read(Type.VAR_INT) - 1;
             if (soundId == -1) {
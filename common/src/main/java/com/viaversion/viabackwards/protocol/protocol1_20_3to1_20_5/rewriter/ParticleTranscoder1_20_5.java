@@ -0,0 +1,154 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.protocol.protocol1_20_3to1_20_5.rewriter;
+
+import com.viaversion.viabackwards.protocol.protocol1_20_3to1_20_5.Protocol1_20_3To1_20_5;
+import com.viaversion.viaversion.api.data.ParticleMappings;
+import com.viaversion.viaversion.api.minecraft.item.Item;
+import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
+import com.viaversion.viaversion.api.type.Type;
+import com.viaversion.viaversion.api.type.types.version.Types1_20_5;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Rewrites 1.20.5 particles to 1.20.3 directly while reading them from the wrapper, only touching the
+ * arguments that actually change instead of reading and re-writing a full particle object.
+ */
+final class ParticleTranscoder1_20_5 {
+
+    private static final byte NO_ARGUMENTS = 0;
+    private static final byte BLOCK = 1;
+    private static final byte ITEM = 2;
+    private static final byte DUST = 3;
+    private static final byte DUST_COLOR_TRANSITION = 4;
+    private static final byte ENTITY_EFFECT = 5;
+    private static final byte VIBRATION = 6;
+    private static final byte SCULK_CHARGE = 7;
+    private static final byte SHRIEK = 8;
+    private final Protocol1_20_3To1_20_5 protocol;
+    private final BlockItemPacketRewriter1_20_5 itemRewriter;
+    private volatile byte[] argumentTypes = new byte[0];
+
+    ParticleTranscoder1_20_5(final Protocol1_20_3To1_20_5 protocol, final BlockItemPacketRewriter1_20_5 itemRewriter) {
+        this.protocol = protocol;
+        this.itemRewriter = itemRewriter;
+    }
+
+    /**
+     * Reads the particle id and arguments, writing the mapped particle id and arguments.
+     *
+     * @param wrapper packet wrapper
+     * @throws Exception if reading or writing fails
+     */
+    void transcode(final PacketWrapper wrapper) throws Exception {
+        final int id = wrapper.read(Type.VAR_INT);
+        wrapper.write(Type.VAR_INT, mappedId(id));
+        transcodeArguments(wrapper, id);
+    }
+
+    int mappedId(final int id) {
+        return protocol.getMappingData().getParticleMappings().getNewId(id);
+    }
+
+    /**
+     * Reads and writes the arguments of the given unmapped particle id.
+     *
+     * @param wrapper packet wrapper
+     * @param id      unmapped particle id
+     * @return the color argument removed from entity effect particles, otherwise null
+     * @throws Exception if reading or writing fails
+     */
+    @Nullable Integer transcodeArguments(final PacketWrapper wrapper, final int id) throws Exception {
+        final byte[] argumentTypes = this.argumentTypes;
+        switch (id >= 0 && id < argumentTypes.length ? argumentTypes[id] : NO_ARGUMENTS) {
+            case BLOCK:
+                final int blockState = wrapper.read(Type.VAR_INT);
+                wrapper.write(Type.VAR_INT, protocol.getMappingData().getNewBlockStateId(blockState));
+                break;
+            case ITEM:
+                final Item item = itemRewriter.handleItemToClient(wrapper.user(), wrapper.read(Types1_20_5.ITEM));
+                wrapper.write(Type.ITEM1_20_2, item);
+                break;
+            case DUST:
+                wrapper.passthrough(Type.FLOAT); // Red
+                wrapper.passthrough(Type.FLOAT); // Green
+                wrapper.passthrough(Type.FLOAT); // Blue
+                wrapper.passthrough(Type.FLOAT); // Scale
+                break;
+            case DUST_COLOR_TRANSITION:
+                // fromColor, toColor, scale -> fromColor, scale, toColor
+                wrapper.passthrough(Type.FLOAT); // From red
+                wrapper.passthrough(Type.FLOAT); // From green
+                wrapper.passthrough(Type.FLOAT); // From blue
+                final float toRed = wrapper.read(Type.FLOAT);
+                final float toGreen = wrapper.read(Type.FLOAT);
+                final float toBlue = wrapper.read(Type.FLOAT);
+                wrapper.passthrough(Type.FLOAT); // Scale
+                wrapper.write(Type.FLOAT, toRed);
+                wrapper.write(Type.FLOAT, toGreen);
+                wrapper.write(Type.FLOAT, toBlue);
+                break;
+            case ENTITY_EFFECT:
+                return wrapper.read(Type.INT); // Color, removed
+            case VIBRATION:
+                final int positionSourceType = wrapper.passthrough(Type.VAR_INT);
+                if (positionSourceType == 0) {
+                    wrapper.passthrough(Type.POSITION1_14); // Block position
+                } else if (positionSourceType == 1) {
+                    wrapper.passthrough(Type.VAR_INT); // Entity id
+                    wrapper.passthrough(Type.FLOAT); // Y offset
+                }
+                wrapper.passthrough(Type.VAR_INT); // Arrival in ticks
+                break;
+            case SCULK_CHARGE:
+                wrapper.passthrough(Type.FLOAT); // Roll
+                break;
+            case SHRIEK:
+                wrapper.passthrough(Type.VAR_INT); // Delay
+                break;
+        }
+        return null;
+    }
+
+    /**
+     * Builds the argument type table from the loaded particle mappings, everything not listed has no arguments.
+     */
+    void onMappingDataLoaded() {
+        final ParticleMappings mappings = protocol.getMappingData().getParticleMappings();
+        final byte[] argumentTypes = new byte[mappings.size()];
+        set(argumentTypes, mappings, "block", BLOCK);
+        set(argumentTypes, mappings, "block_marker", BLOCK);
+        set(argumentTypes, mappings, "falling_dust", BLOCK);
+        set(argumentTypes, mappings, "dust_pillar", BLOCK);
+        set(argumentTypes, mappings, "item", ITEM);
+        set(argumentTypes, mappings, "dust", DUST);
+        set(argumentTypes, mappings, "dust_color_transition", DUST_COLOR_TRANSITION);
+        set(argumentTypes, mappings, "entity_effect", ENTITY_EFFECT);
+        set(argumentTypes, mappings, "vibration", VIBRATION);
+        set(argumentTypes, mappings, "sculk_charge", SCULK_CHARGE);
+        set(argumentTypes, mappings, "shriek", SHRIEK);
+        this.argumentTypes = argumentTypes;
+    }
+
+    private static void set(final byte[] argumentTypes, final ParticleMappings mappings, final String identifier, final byte argumentType) {
+        final int id = mappings.id(identifier);
+        if (id != -1) {
+            argumentTypes[id] = argumentType;
+        }
+    }
+}
@@ -17,11 +17,16 @@
  */
 package com.viaversion.viabackwards.protocol.protocol1_20_3to1_20_5.storage;
 
-import com.viaversion.viaversion.api.connection.StorableObject;
+import com.viaversion.viabackwards.api.footprint.FootprintReport;
+import com.viaversion.viabackwards.api.footprint.StorageFootprint;
 import java.util.HashMap;
 import java.util.Map;
 
-public final class CookieStorage implements StorableObject {
+public final class CookieStorage implements StorageFootprint {
+
+    static {
+        FootprintReport.register(CookieStorage.class);
+    }
 
     private final Map<String, byte[]> cookies = new HashMap<>();
 
@@ -33,4 +38,18 @@ public final class CookieStorage implements StorableObject {
     public boolean clearOnServerSwitch() {
         return false;
     }
+
+    @Override
+    public int footprintEntries() {
+        return cookies.size();
+    }
+
+    @Override
+    public long footprintBytes() {
+        long bytes = 0;
+        for (final Map.Entry<String, byte[]> entry : cookies.entrySet()) {
+            bytes += 48 + FootprintReport.estimateStringBytes(entry.getKey()) + 16 + entry.getValue().length;
+        }
+        return bytes;
+    }
 }
@@ -17,11 +17,16 @@
  */
 package com.viaversion.viabackwards.protocol.protocol1_20_3to1_20_5.storage;
 
-import com.viaversion.viaversion.api.connection.StorableObject;
+import com.viaversion.viabackwards.api.footprint.FootprintReport;
+import com.viaversion.viabackwards.api.footprint.StorageFootprint;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.CompoundTag;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-public final class RegistryDataStorage implements StorableObject {
+public final class RegistryDataStorage implements StorageFootprint {
+
+    static {
+        FootprintReport.register(RegistryDataStorage.class);
+    }
 
     private final CompoundTag registryData = new CompoundTag();
     private String[] dimensionKeys;
@@ -42,4 +47,14 @@ public final class RegistryDataStorage implements StorableObject {
         registryData.clear();
         dimensionKeys = null;
     }
+
+    @Override
+    public int footprintEntries() {
+        return registryData.size();
+    }
+
+    @Override
+    public long footprintBytes() {
+        return FootprintReport.estimateBytes(registryData) + (dimensionKeys != null ? dimensionKeys.length * 48L : 0);
+    }
 }
@@ -19,10 +19,12 @@ package com.viaversion.viabackwards.protocol.protocol1_20to1_20_2;
 
 import com.viaversion.viabackwards.api.BackwardsProtocol;
 import com.viaversion.viabackwards.api.data.BackwardsMappings;
+import com.viaversion.viabackwards.api.entities.storage.BackwardsEntityTracker;
 import com.viaversion.viabackwards.api.rewriters.SoundRewriter;
 import com.viaversion.viabackwards.protocol.protocol1_20to1_20_2.rewriter.BlockItemPacketRewriter1_20_2;
 import com.viaversion.viabackwards.protocol.protocol1_20to1_20_2.rewriter.EntityPacketRewriter1_20_2;
 import com.viaversion.viabackwards.protocol.protocol1_20to1_20_2.storage.ConfigurationPacketStorage;
+import com.viaversion.viabackwards.utils.RegistryCache;
 import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.minecraft.entities.EntityTypes1_19_4;
 import com.viaversion.viaversion.api.protocol.packet.Direction;
@@ -31,7 +33,6 @@ import com.viaversion.viaversion.api.protocol.packet.State;
 import com.viaversion.viaversion.api.rewriter.EntityRewriter;
 import com.viaversion.viaversion.api.rewriter.ItemRewriter;
 import com.viaversion.viaversion.api.type.Type;
-import com.viaversion.viaversion.data.entity.EntityTrackerBase;
 import com.viaversion.viaversion.exception.CancelException;
 import com.viaversion.viaversion.libs.opennbt.tag.builtin.CompoundTag;
 import com.viaversion.viaversion.protocols.base.ClientboundLoginPackets;
@@ -141,7 +142,8 @@ public final class Protocol1_20To1_20_2 extends BackwardsProtocol<ClientboundPac
         registerClientbound(State.CONFIGURATION, ClientboundConfigurationPackets1_20_2.REGISTRY_DATA.getId(), -1, wrapper -> {
             wrapper.cancel();
 
-            final CompoundTag registry = wrapper.read(Type.COMPOUND_TAG);
+            // Players joining the same server share the registry, it's only converted once by each protocol
+            final CompoundTag registry = RegistryCache.intern(wrapper.read(Type.COMPOUND_TAG));
             entityPacketRewriter.trackBiomeSize(wrapper.user(), registry);
             entityPacketRewriter.cacheDimensionData(wrapper.user(), registry);
             wrapper.user().get(ConfigurationPacketStorage.class).setRegistry(registry);
@@ -199,7 +201,7 @@ public final class Protocol1_20To1_20_2 extends BackwardsProtocol<ClientboundPac
 
     @Override
     public void init(final UserConnection connection) {
-        addEntityTracker(connection, new EntityTrackerBase(connection, EntityTypes1_19_4.PLAYER));
+        addEntityTracker(connection, new BackwardsEntityTracker(connection, EntityTypes1_19_4.PLAYER));
     }
 
     @Override
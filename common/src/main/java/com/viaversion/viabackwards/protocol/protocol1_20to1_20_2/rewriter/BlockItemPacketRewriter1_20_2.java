@@ -18,7 +18,9 @@
 package com.viaversion.viabackwards.protocol.protocol1_20to1_20_2.rewriter;
 
 import com.viaversion.viabackwards.api.rewriters.BackwardsItemRewriter;
+import com.viaversion.viabackwards.api.rewriters.MultiBlockChangeTranscoder;
 import com.viaversion.viabackwards.protocol.protocol1_20to1_20_2.Protocol1_20To1_20_2;
+import com.viaversion.viabackwards.utils.ChunkTypes;
 import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.data.ParticleMappings;
 import com.viaversion.viaversion.api.data.entity.EntityTracker;
@@ -49,6 +51,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 public final class BlockItemPacketRewriter1_20_2 extends BackwardsItemRewriter<ClientboundPackets1_20_2, ServerboundPackets1_19_4, Protocol1_20To1_20_2> {
 
+    private final ChunkTypes.Cache<ChunkType1_20_2> chunkTypes = ChunkTypes.cache(ChunkType1_20_2::new);
+    private final ChunkTypes.Cache<ChunkType1_18> newChunkTypes = ChunkTypes.cache(ChunkType1_18::new);
+
     public BlockItemPacketRewriter1_20_2(final Protocol1_20To1_20_2 protocol) {
         super(protocol, Type.ITEM1_20_2, Type.ITEM1_20_2_ARRAY);
     }
@@ -58,6 +63,7 @@ public final class BlockItemPacketRewriter1_20_2 extends BackwardsItemRewriter<C
         final BlockRewriter<ClientboundPackets1_20_2> blockRewriter = BlockRewriter.for1_14(protocol);
         blockRewriter.registerBlockAction(ClientboundPackets1_20_2.BLOCK_ACTION);
         blockRewriter.registerBlockChange(ClientboundPackets1_20_2.BLOCK_CHANGE);
+        MultiBlockChangeTranscoder.registerHandler(protocol.getClass());
         blockRewriter.registerVarLongMultiBlockChange1_20(ClientboundPackets1_20_2.MULTI_BLOCK_CHANGE);
         blockRewriter.registerEffect(ClientboundPackets1_20_2.EFFECT, 1010, 2001);
 
@@ -108,12 +114,12 @@ public final class BlockItemPacketRewriter1_20_2 extends BackwardsItemRewriter<C
 
         protocol.registerClientbound(ClientboundPackets1_20_2.CHUNK_DATA, wrapper -> {
             final EntityTracker tracker = protocol.getEntityRewriter().tracker(wrapper.user());
-            final Type<Chunk> chunkType = new ChunkType1_20_2(tracker.currentWorldSectionHeight(),
+            final Type<Chunk> chunkType = chunkTypes.get(tracker.currentWorldSectionHeight(),
                 MathUtil.ceilLog2(protocol.getMappingData().getBlockStateMappings().size()),
                 MathUtil.ceilLog2(tracker.biomesSent()));
             final Chunk chunk = wrapper.read(chunkType);
 
-            final Type<Chunk> newChunkType = new ChunkType1_18(tracker.currentWorldSectionHeight(),
+            final Type<Chunk> newChunkType = newChunkTypes.get(tracker.currentWorldSectionHeight(),
                 MathUtil.ceilLog2(protocol.getMappingData().getBlockStateMappings().mappedSize()),
                 MathUtil.ceilLog2(tracker.biomesSent()));
             wrapper.write(newChunkType, chunk);
@@ -18,8 +18,11 @@
 package com.viaversion.viabackwards.protocol.protocol1_20to1_20_2.storage;
 
 import com.google.common.base.Preconditions;
+import com.viaversion.viabackwards.ViaBackwards;
+import com.viaversion.viabackwards.api.footprint.FootprintReport;
+import com.viaversion.viabackwards.api.footprint.StorageFootprint;
 import com.viaversion.viabackwards.protocol.protocol1_20to1_20_2.Protocol1_20To1_20_2;
-import com.viaversion.viaversion.api.connection.StorableObject;
+import com.viaversion.viabackwards.utils.PacketBatch;
 import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.protocol.packet.PacketType;
 import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
@@ -27,20 +30,41 @@ import com.viaversion.viaversion.libs.opennbt.tag.builtin.CompoundTag;
 import com.viaversion.viaversion.protocols.protocol1_19_4to1_19_3.ClientboundPackets1_19_4;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
 import java.util.ArrayList;
 import java.util.List;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-public final class ConfigurationPacketStorage implements StorableObject {
+public final class ConfigurationPacketStorage implements StorageFootprint {
 
+    static {
+        FootprintReport.register(ConfigurationPacketStorage.class);
+    }
+
+    /**
+     * Maximum number of bytes queued per connection until the configuration phase has finished. Exceeding it releases
+     * the queue and disconnects the player instead of buffering an unbounded amount of data.
+     */
+    private static final int MAX_QUEUED_BYTES = 16 * 1024 * 1024;
     private final List<QueuedPacket> rawPackets = new ArrayList<>();
+    private int queuedBytes;
+    private boolean overflowed;
     private CompoundTag registry;
     private String[] enabledFeatures;
     private boolean finished;
     private QueuedPacket resourcePack;
 
     public void setResourcePack(final PacketWrapper wrapper) throws Exception {
-        resourcePack = toQueuedPacket(wrapper, ClientboundPackets1_19_4.RESOURCE_PACK);
+        final QueuedPacket packet = toQueuedPacket(wrapper, ClientboundPackets1_19_4.RESOURCE_PACK);
+        if (packet == null) {
+            return;
+        }
+
+        if (resourcePack != null) {
+            queuedBytes -= resourcePack.buf().readableBytes();
+            resourcePack.buf().release();
+        }
+        resourcePack = packet;
     }
 
     public CompoundTag registry() {
@@ -61,20 +85,48 @@ public final class ConfigurationPacketStorage implements StorableObject {
     }
 
     public void addRawPacket(final PacketWrapper wrapper, final PacketType type) throws Exception {
-        rawPackets.add(toQueuedPacket(wrapper, type));
+        final QueuedPacket packet = toQueuedPacket(wrapper, type);
+        if (packet != null) {
+            rawPackets.add(packet);
+        }
     }
 
-    private QueuedPacket toQueuedPacket(final PacketWrapper wrapper, final PacketType type) throws Exception {
+    private @Nullable QueuedPacket toQueuedPacket(final PacketWrapper wrapper, final PacketType type) throws Exception {
         Preconditions.checkArgument(!wrapper.isCancelled(), "Wrapper should be cancelled AFTER calling toQueuedPacket");
+        if (overflowed) {
+            // The connection is already being closed
+            return null;
+        }
+
+        // It's easier to just copy it to a buffer than to manually read the data, use the channel's pooled allocator for it
+        final Channel channel = wrapper.user().getChannel();
+        final ByteBuf buf = channel != null ? channel.alloc().buffer() : Unpooled.buffer();
+        try {
+            //noinspection deprecation
+            wrapper.setId(-1); // Don't write the packet id to the buffer
+            wrapper.writeToBuffer(buf);
+        } catch (final Exception e) {
+            buf.release();
+            throw e;
+        }
 
-        // It's easier to just copy it to a byte array buffer than to manually read the data
-        final ByteBuf buf = Unpooled.buffer();
-        //noinspection deprecation
-        wrapper.setId(-1); // Don't write the packet id to the buffer
-        wrapper.writeToBuffer(buf);
+        if (queuedBytes + buf.readableBytes() > MAX_QUEUED_BYTES) {
+            buf.release();
+            overflow(wrapper.user());
+            return null;
+        }
+        queuedBytes += buf.readableBytes();
         return new QueuedPacket(buf, type);
     }
 
+    private void overflow(final UserConnection connection) {
+        overflowed = true;
+        releaseQueuedPackets();
+        ViaBackwards.getPlatform().getLogger().warning("Disconnecting " + connection.getProtocolInfo().getUsername()
+            + ", the server sent more than " + (MAX_QUEUED_BYTES >> 20) + " MiB of packets to queue during the configuration phase");
+        connection.disconnect("Too much data was sent during the configuration phase");
+    }
+
     public void sendQueuedPackets(final UserConnection connection) throws Exception {
         // Send resource pack at the end
         if (resourcePack != null) {
@@ -82,14 +134,40 @@ public final class ConfigurationPacketStorage implements StorableObject {
             resourcePack = null;
         }
 
+        try {
+            for (int i = 0; i < rawPackets.size(); i++) {
+                final QueuedPacket queuedPacket = rawPackets.get(i);
+                try {
+                    final PacketWrapper packet = PacketWrapper.create(queuedPacket.packetType(), queuedPacket.buf(), connection);
+                    PacketBatch.send(packet, Protocol1_20To1_20_2.class);
+                } finally {
+                    queuedPacket.buf().release();
+                    rawPackets.set(i, null);
+                }
+            }
+        } finally {
+            // Release whatever is left if sending failed halfway
+            releaseQueuedPackets();
+        }
+    }
+
+    private void releaseQueuedPackets() {
         for (final QueuedPacket queuedPacket : rawPackets) {
-            try {
-                final PacketWrapper packet = PacketWrapper.create(queuedPacket.packetType(), queuedPacket.buf(), connection);
-                packet.send(Protocol1_20To1_20_2.class);
-            } finally {
+            if (queuedPacket != null) {
                 queuedPacket.buf().release();
             }
         }
+        rawPackets.clear();
+        if (resourcePack != null) {
+            resourcePack.buf().release();
+            resourcePack = null;
+        }
+        queuedBytes = 0;
+    }
+
+    @Override
+    public void onRemove() {
+        releaseQueuedPackets();
     }
 
     public boolean isFinished() {
@@ -117,4 +195,14 @@ public final class ConfigurationPacketStorage implements StorableObject {
             return packetType;
         }
     }
+
+    @Override
+    public int footprintEntries() {
+        return rawPackets.size() + (resourcePack != null ? 1 : 0);
+    }
+
+    @Override
+    public long footprintBytes() {
+        return queuedBytes + FootprintReport.estimateBytes(registry);
+    }
 }
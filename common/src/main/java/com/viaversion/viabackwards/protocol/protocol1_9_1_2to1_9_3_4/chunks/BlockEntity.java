@@ -18,6 +18,7 @@
 package com.viaversion.viabackwards.protocol.protocol1_9_1_2to1_9_3_4.chunks;
 
 import com.viaversion.viabackwards.protocol.protocol1_9_1_2to1_9_3_4.Protocol1_9_1_2To1_9_3_4;
+import com.viaversion.viabackwards.utils.PacketBatch;
 import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.minecraft.Position;
 import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
@@ -76,6 +77,6 @@ public class BlockEntity {
         wrapper.write(Type.POSITION1_8, pos);
         wrapper.write(Type.UNSIGNED_BYTE, id);
         wrapper.write(Type.NAMED_COMPOUND_TAG, tag);
-        wrapper.scheduleSend(Protocol1_9_1_2To1_9_3_4.class, false);
+        PacketBatch.scheduleSend(wrapper, Protocol1_9_1_2To1_9_3_4.class, false);
     }
 }
\ No newline at end of file
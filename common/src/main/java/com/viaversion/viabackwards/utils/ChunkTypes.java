@@ -0,0 +1,114 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.utils;
+
+import com.viaversion.viaversion.api.type.types.chunk.ChunkType1_17;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Reusable chunk type instances. Chunk types hold no state besides the world height and registry sizes they were
+ * created with, so a type is created once per combination instead of for every chunk packet. A dimension change
+ * simply selects the type of the new world height.
+ */
+public final class ChunkTypes {
+
+    private static final int MAX_SECTION_HEIGHT = 256; // 4096 blocks
+    private static final AtomicReferenceArray<ChunkType1_17> TYPES_1_17 = new AtomicReferenceArray<>(MAX_SECTION_HEIGHT + 1);
+
+    private ChunkTypes() {
+    }
+
+    /**
+     * Returns the 1.17 chunk type for the given world height.
+     *
+     * @param sectionHeight number of sections in the world
+     * @return chunk type for the given world height
+     */
+    public static ChunkType1_17 chunkType1_17(final int sectionHeight) {
+        if (sectionHeight < 0 || sectionHeight > MAX_SECTION_HEIGHT) {
+            return new ChunkType1_17(sectionHeight);
+        }
+
+        ChunkType1_17 type = TYPES_1_17.get(sectionHeight);
+        if (type == null) {
+            type = new ChunkType1_17(sectionHeight);
+            TYPES_1_17.set(sectionHeight, type);
+        }
+        return type;
+    }
+
+    /**
+     * Returns a new cache for chunk types also depending on the global palette sizes. Each call site should use its own cache,
+     * since only the last palette sizes are kept per world height.
+     *
+     * @param factory factory creating a chunk type
+     * @param <T>     chunk type
+     * @return new chunk type cache
+     */
+    public static <T> Cache<T> cache(final Factory<T> factory) {
+        return new Cache<>(factory);
+    }
+
+    @FunctionalInterface
+    public interface Factory<T> {
+
+        T create(int sectionHeight, int globalPaletteBits, int globalBiomeBits);
+    }
+
+    public static final class Cache<T> {
+        private final AtomicReferenceArray<Entry<T>> entries = new AtomicReferenceArray<>(MAX_SECTION_HEIGHT + 1);
+        private final Factory<T> factory;
+
+        private Cache(final Factory<T> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Returns the chunk type for the given world height and global palette sizes.
+         *
+         * @param sectionHeight     number of sections in the world
+         * @param globalPaletteBits bits per block state id of the global palette
+         * @param globalBiomeBits   bits per biome id of the global palette
+         * @return chunk type for the given parameters
+         */
+        public T get(final int sectionHeight, final int globalPaletteBits, final int globalBiomeBits) {
+            if (sectionHeight < 0 || sectionHeight > MAX_SECTION_HEIGHT) {
+                return factory.create(sectionHeight, globalPaletteBits, globalBiomeBits);
+            }
+
+            Entry<T> entry = entries.get(sectionHeight);
+            if (entry == null || entry.globalPaletteBits != globalPaletteBits || entry.globalBiomeBits != globalBiomeBits) {
+                entry = new Entry<>(globalPaletteBits, globalBiomeBits, factory.create(sectionHeight, globalPaletteBits, globalBiomeBits));
+                entries.set(sectionHeight, entry);
+            }
+            return entry.type;
+        }
+    }
+
+    private static final class Entry<T> {
+        private final int globalPaletteBits;
+        private final int globalBiomeBits;
+        private final T type;
+
+        private Entry(final int globalPaletteBits, final int globalBiomeBits, final T type) {
+            this.globalPaletteBits = globalPaletteBits;
+            this.globalBiomeBits = globalBiomeBits;
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.utils;
+
+public final class CompactArrays {
+
+    private CompactArrays() {
+    }
+
+    /**
+     * Converts a compact array with padding to another bit width, adding the offset to and clamping every value.
+     * Values are read and written directly without decoding them into an intermediate array.
+     *
+     * @param data     compact array with padding to read from
+     * @param fromBits bits per value of the input
+     * @param toBits   bits per value of the output
+     * @param size     number of values
+     * @param offset   offset added to every value
+     * @param min      minimum value after adding the offset
+     * @param max      maximum value after adding the offset, has to fit into the output bits
+     * @return compact array with padding using the given output bits
+     */
+    public static long[] repackWithPadding(final long[] data, final int fromBits, final int toBits, final int size,
+                                           final int offset, final int min, final int max) {
+        final int fromValuesPerLong = 64 / fromBits;
+        final int toValuesPerLong = 64 / toBits;
+        final long fromMask = (1L << fromBits) - 1;
+        final long[] result = new long[(size + toValuesPerLong - 1) / toValuesPerLong];
+
+        int fromIndex = 0;
+        int fromValue = 0;
+        long fromWord = data.length != 0 ? data[0] : 0;
+        int toIndex = 0;
+        int toValue = 0;
+        long toWord = 0;
+        for (int i = 0; i < size; i++) {
+            int value = (int) (fromWord & fromMask) + offset;
+            fromWord >>>= fromBits;
+            if (++fromValue == fromValuesPerLong) {
+                fromValue = 0;
+                fromWord = ++fromIndex < data.length ? data[fromIndex] : 0;
+            }
+
+            if (value < min) {
+                value = min;
+            } else if (value > max) {
+                value = max;
+            }
+
+            toWord |= (long) value << (toValue * toBits);
+            if (++toValue == toValuesPerLong) {
+                result[toIndex++] = toWord;
+                toValue = 0;
+                toWord = 0;
+            }
+        }
+
+        if (toValue != 0) {
+            result[toIndex] = toWord;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.utils;
+
+import com.viaversion.viaversion.api.Via;
+import com.viaversion.viaversion.api.connection.StorableObject;
+import com.viaversion.viaversion.api.connection.UserConnection;
+import com.viaversion.viaversion.api.protocol.Protocol;
+import com.viaversion.viaversion.api.protocol.packet.Direction;
+import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Coalesces clientbound packets created while translating another packet, so that they are written to the
+ * channel without flushing each of them individually.
+ * <p>
+ * Methods of this class have to be called on the channel's event loop while handling a clientbound packet.
+ */
+public final class PacketBatch implements StorableObject {
+
+    private final List<ByteBuf> scheduledPackets = new ArrayList<>();
+    private boolean flushScheduled;
+
+    /**
+     * Sends the packet before the packet currently being handled. It is flushed together with the handled packet.
+     *
+     * @param wrapper  packet wrapper to send
+     * @param protocol protocol class the packet was created in, the remaining protocols will be applied
+     * @throws Exception if constructing the packet fails
+     */
+    public static void send(final PacketWrapper wrapper, final Class<? extends Protocol> protocol) throws Exception {
+        final ChannelHandlerContext context = encoderContext(wrapper.user());
+        if (context == null) {
+            wrapper.send(protocol);
+            return;
+        }
+
+        final ByteBuf packet = constructPacket(wrapper, protocol, true);
+        if (packet != null) {
+            context.write(packet);
+        }
+    }
+
+    /**
+     * Sends the packet after the packet currently being handled. All packets scheduled during the current
+     * event loop task are written at once and flushed a single time.
+     *
+     * @param wrapper  packet wrapper to send
+     * @param protocol protocol class the packet was created in, the remaining protocols will be applied
+     * @throws Exception if constructing the packet fails
+     */
+    public static void scheduleSend(final PacketWrapper wrapper, final Class<? extends Protocol> protocol) throws Exception {
+        scheduleSend(wrapper, protocol, true);
+    }
+
+    /**
+     * Sends the packet after the packet currently being handled. All packets scheduled during the current
+     * event loop task are written at once and flushed a single time.
+     *
+     * @param wrapper             packet wrapper to send
+     * @param protocol            protocol class the packet was created in
+     * @param skipCurrentPipeline whether the given protocol should be skipped when applying the pipeline
+     * @throws Exception if constructing the packet fails
+     */
+    public static void scheduleSend(final PacketWrapper wrapper, final Class<? extends Protocol> protocol, final boolean skipCurrentPipeline) throws Exception {
+        final UserConnection connection = wrapper.user();
+        if (encoderContext(connection) == null) {
+            wrapper.scheduleSend(protocol, skipCurrentPipeline);
+            return;
+        }
+
+        final ByteBuf packet = constructPacket(wrapper, protocol, skipCurrentPipeline);
+        if (packet == null) {
+            return;
+        }
+
+        PacketBatch batch = connection.get(PacketBatch.class);
+        if (batch == null) {
+            batch = new PacketBatch();
+            connection.put(batch);
+        }
+        batch.schedule(connection, packet);
+    }
+
+    private void schedule(final UserConnection connection, final ByteBuf packet) {
+        scheduledPackets.add(packet);
+        if (flushScheduled) {
+            return;
+        }
+
+        flushScheduled = true;
+        try {
+            connection.getChannel().eventLoop().execute(() -> flush(connection));
+        } catch (final Throwable t) {
+            flushScheduled = false;
+            releaseScheduled();
+            throw t;
+        }
+    }
+
+    private void flush(final UserConnection connection) {
+        flushScheduled = false;
+        final ChannelHandlerContext context = encoderContext(connection);
+        if (context == null) {
+            releaseScheduled();
+            return;
+        }
+
+        for (final ByteBuf packet : scheduledPackets) {
+            context.write(packet);
+        }
+        scheduledPackets.clear();
+        context.flush();
+    }
+
+    private void releaseScheduled() {
+        for (final ByteBuf packet : scheduledPackets) {
+            packet.release();
+        }
+        scheduledPackets.clear();
+    }
+
+    @Override
+    public void onRemove() {
+        releaseScheduled();
+    }
+
+    static @Nullable ChannelHandlerContext encoderContext(final UserConnection connection) {
+        final Channel channel = connection.getChannel();
+        if (channel == null || connection.isClientSide()) {
+            return null;
+        }
+        return channel.pipeline().context(Via.getManager().getInjector().getEncoderName());
+    }
+
+    private static @Nullable ByteBuf constructPacket(final PacketWrapper wrapper, final Class<? extends Protocol> protocol, final boolean skipCurrentPipeline) throws Exception {
+        if (wrapper.isCancelled()) {
+            return null;
+        }
+
+        // Apply the protocols (after) the given one, same as when sending the wrapper directly
+        final UserConnection connection = wrapper.user();
+        final List<Protocol> protocols = connection.getProtocolInfo().getPipeline().pipes();
+        int index = -1;
+        for (int i = 0; i < protocols.size(); i++) {
+            if (protocols.get(i).getClass() == protocol) {
+                index = i;
+                break;
+            }
+        }
+        if (index == -1) {
+            throw new NoSuchElementException(protocol.getCanonicalName());
+        }
+
+        wrapper.resetReader();
+        wrapper.apply(Direction.CLIENTBOUND, connection.getProtocolInfo().getState(Direction.CLIENTBOUND), skipCurrentPipeline ? index - 1 : index, protocols, true);
+        if (wrapper.isCancelled()) {
+            return null;
+        }
+
+        final ByteBuf output = connection.getChannel().alloc().buffer();
+        try {
+            wrapper.writeToBuffer(output);
+            return output.retain();
+        } finally {
+            output.release();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.viaversion.viaversion.api.protocol.Protocol;
+import com.viaversion.viaversion.libs.opennbt.tag.builtin.CompoundTag;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Process-wide cache of the registries sent on join, so that players joining the same server share a single
+ * registry instance and every protocol only converts each distinct registry once.
+ * <p>
+ * Registries returned by this class are shared between connections and must never be modified.
+ */
+public final class RegistryCache {
+
+    private static final int MAX_REGISTRIES = 16;
+    private static final Cache<CompoundTag, CompoundTag> INTERNED = CacheBuilder.newBuilder().maximumSize(MAX_REGISTRIES).build();
+    // Weak keys use identity comparison, converted registries are looked up by the shared registry they were converted from
+    private static final Cache<CompoundTag, Map<Class<? extends Protocol>, CompoundTag>> CONVERTED = CacheBuilder.newBuilder().weakKeys().build();
+
+    private RegistryCache() {
+    }
+
+    /**
+     * Returns a shared registry equal to the given one, caching the given registry if none is present.
+     * The given registry must not be modified afterwards.
+     *
+     * @param registry registry as sent by the server
+     * @return shared registry equal to the given one
+     */
+    public static CompoundTag intern(final CompoundTag registry) {
+        try {
+            final CompoundTag interned = INTERNED.get(registry, () -> registry);
+            CONVERTED.get(interned, ConcurrentHashMap::new);
+            return interned;
+        } catch (final ExecutionException e) {
+            // Not thrown by the loaders above
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Applies the conversion of the given protocol to the registry. Shared registries are converted once and the
+     * shared result is returned, other registries are converted in place.
+     *
+     * @param protocol  protocol class the conversion belongs to
+     * @param registry  registry to convert
+     * @param converter conversion modifying the given registry in place
+     * @return converted registry, possibly a shared instance
+     */
+    public static CompoundTag convert(final Class<? extends Protocol> protocol, final CompoundTag registry, final Consumer<CompoundTag> converter) {
+        final Map<Class<? extends Protocol>, CompoundTag> conversions = CONVERTED.getIfPresent(registry);
+        if (conversions == null) {
+            converter.accept(registry);
+            return registry;
+        }
+
+        return conversions.computeIfAbsent(protocol, key -> {
+            final CompoundTag converted = registry.copy();
+            converter.accept(converted);
+            CONVERTED.put(converted, new ConcurrentHashMap<>());
+            return converted;
+        });
+    }
+}
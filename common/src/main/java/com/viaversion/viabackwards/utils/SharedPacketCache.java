@@ -0,0 +1,160 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.viaversion.viabackwards.api.BackwardsProtocol;
+import com.viaversion.viaversion.api.connection.UserConnection;
+import com.viaversion.viaversion.api.protocol.Protocol;
+import com.viaversion.viaversion.api.protocol.packet.Direction;
+import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
+import com.viaversion.viaversion.api.protocol.packet.State;
+import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
+import com.viaversion.viaversion.api.type.Type;
+import com.viaversion.viaversion.exception.CancelException;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Process-wide cache of translated packets whose content is the same for many players, such as command trees and tags.
+ * Players on the same server, or on servers of a proxy sending the same content, share a single translation per client
+ * version instead of walking the whole packet for every player. Content no longer sent by any server is evicted over time.
+ */
+public final class SharedPacketCache {
+
+    private static final long MAX_CACHED_BYTES = 32 * 1024 * 1024;
+    private static final Cache<Key, byte[]> TRANSLATED = CacheBuilder.newBuilder()
+        .maximumWeight(MAX_CACHED_BYTES)
+        .<Key, byte[]>weigher((key, translated) -> key.content.length + translated.length)
+        .expireAfterAccess(10, TimeUnit.MINUTES)
+        .build();
+    private static final ThreadLocal<Boolean> TRANSLATING = new ThreadLocal<>();
+
+    private SharedPacketCache() {
+    }
+
+    /**
+     * Sends the translated packet if the given protocol is the first one to handle the packet. If the method returns
+     * normally, the wrapper is untouched and has to be handled as usual.
+     *
+     * @param protocol protocol currently handling the packet
+     * @param wrapper  clientbound play packet wrapper of a shared packet type
+     * @throws CancelException if the packet has been handled, the wrapper has then been consumed and no further protocol
+     *                         may handle it
+     * @throws Exception       if translating the packet fails
+     */
+    public static void handle(final BackwardsProtocol<?, ?, ?, ?> protocol, final PacketWrapper wrapper) throws Exception {
+        final UserConnection user = wrapper.user();
+        final ChannelHandlerContext context = PacketBatch.encoderContext(user);
+        if (context == null || TRANSLATING.get() != null) {
+            return;
+        }
+
+        // Commands are stored and tags are cancelled for 1.12 clients
+        final ProtocolVersion version = user.getProtocolInfo().protocolVersion();
+        if (version.olderThan(ProtocolVersion.v1_13)) {
+            return;
+        }
+
+        // Only the first protocol sees the packet as sent by the server
+        final List<Protocol> protocols = user.getProtocolInfo().getPipeline().pipes();
+        if (protocols.isEmpty() || protocols.get(protocols.size() - 1) != protocol) {
+            return;
+        }
+
+        final Key key = new Key(version, protocol.getClass(), wrapper.getId(), wrapper.read(Type.REMAINING_BYTES));
+        byte[] translated = TRANSLATED.getIfPresent(key);
+        if (translated == null) {
+            translated = translate(wrapper.getId(), key.content, user, protocols);
+            if (translated != null) {
+                TRANSLATED.put(key, translated);
+            }
+        }
+
+        wrapper.cancel();
+        if (translated != null) {
+            // Always write a copy, the cached array must not be modified by encryption further down the pipeline
+            context.write(context.alloc().buffer(translated.length).writeBytes(translated));
+        }
+
+        // PacketWrapper#apply doesn't check for cancellation between protocols, the exception stops the pipeline
+        throw CancelException.generate();
+    }
+
+    private static byte @Nullable [] translate(final int packetId, final byte[] content, final UserConnection user, final List<Protocol> protocols) throws Exception {
+        //noinspection deprecation
+        final PacketWrapper wrapper = PacketWrapper.create(packetId, Unpooled.wrappedBuffer(content), user);
+        TRANSLATING.set(Boolean.TRUE);
+        try {
+            wrapper.apply(Direction.CLIENTBOUND, State.PLAY, protocols.size() - 1, protocols, true);
+        } catch (final CancelException e) {
+            return null;
+        } finally {
+            TRANSLATING.remove();
+        }
+        if (wrapper.isCancelled()) {
+            return null;
+        }
+
+        final ByteBuf output = Unpooled.buffer();
+        try {
+            wrapper.writeToBuffer(output);
+            final byte[] translated = new byte[output.readableBytes()];
+            output.readBytes(translated);
+            return translated;
+        } finally {
+            output.release();
+        }
+    }
+
+    private static final class Key {
+        private final ProtocolVersion version;
+        private final Class<?> protocol;
+        private final int packetId;
+        private final byte[] content;
+        private final int hashCode;
+
+        private Key(final ProtocolVersion version, final Class<?> protocol, final int packetId, final byte[] content) {
+            this.version = version;
+            this.protocol = protocol;
+            this.packetId = packetId;
+            this.content = content;
+            this.hashCode = 31 * (31 * (31 * version.hashCode() + protocol.hashCode()) + packetId) + Arrays.hashCode(content);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final Key key = (Key) o;
+            return hashCode == key.hashCode && packetId == key.packetId && version.equals(key.version) && protocol == key.protocol
+                && Arrays.equals(content, key.content);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -31,6 +31,7 @@ setupViaSubproject("velocity")
 setupViaSubproject("sponge")
 setupViaSubproject("fabric")
 setupViaSubproject("template")
+setupViaSubproject("benchmark")
 
 setupSubproject("viabackwards") {
     projectDir = file("universal")